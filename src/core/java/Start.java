@@ -14,10 +14,42 @@ public class Start {
     /**
      * The entry point
      *
-     * @param args Program arguments (unused)
+     * @param args Program arguments: [addon class name] [--parallel-ticks] [--tick-budget=milliseconds] [--frame-rate=fps] [--headless] [--overlay] [--software-rendering]
      * @throws Exception Can throw exceptions of the core class
      */
     public static void main(String[] args) throws Exception {
+        String addonClassName = null;
+        boolean parallelTicks = false;
+        boolean headless = false;
+        boolean overlay = false;
+        boolean softwareRendering = false;
+        long tickBudget = 0;
+        int frameRate = 0;
+
+        // Parse program arguments
+        for (String arg : args) {
+            if (arg.equals("--parallel-ticks")) {
+                parallelTicks = true;
+            } else if (arg.equals("--headless")) {
+                headless = true;
+            } else if (arg.equals("--overlay")) {
+                overlay = true;
+            } else if (arg.equals("--software-rendering")) {
+                softwareRendering = true;
+            } else if (arg.startsWith("--tick-budget=")) {
+                tickBudget = Long.parseLong(arg.substring("--tick-budget=".length()));
+            } else if (arg.startsWith("--frame-rate=")) {
+                frameRate = Integer.parseInt(arg.substring("--frame-rate=".length()));
+            } else {
+                addonClassName = arg;
+            }
+        }
+
+        // Render offscreen without a display
+        if (headless) {
+            System.setProperty("java.awt.headless", "true");
+        }
+
         // Create URL class loader for this application
         SourceClassLoader classLoader = new SourceClassLoader(new URL[0], ClassLoader.getSystemClassLoader());
         Thread.currentThread().setContextClassLoader(classLoader);
@@ -26,10 +58,23 @@ public class Start {
         UIManager.setLookAndFeel(UIManager.getSystemLookAndFeelClassName());
 
         // Create application
-        DesktopModules desktopModules = new DesktopModules(classLoader);
+        DesktopModules desktopModules = new DesktopModules(classLoader, headless);
+        desktopModules.setOverlay(overlay);
+        desktopModules.setSoftwareRendering(softwareRendering);
+
+        // Configure tick scheduler
+        desktopModules.getTickScheduler().setParallel(parallelTicks);
+        if (tickBudget > 0) {
+            desktopModules.getTickScheduler().setTickBudget(tickBudget);
+        }
+
+        // Configure frame scheduler
+        if (frameRate > 0) {
+            desktopModules.getFrameScheduler().setFrameRate(frameRate);
+        }
 
         // Load internal addon
-        boolean loadAddons = args.length == 0 || desktopModules.getSourceLoader().registerAddon(args[0]) == null;
+        boolean loadAddons = addonClassName == null || desktopModules.getSourceLoader().registerAddon(addonClassName) == null;
 
         // Initialize core application
         desktopModules.init(loadAddons);
@@ -4,15 +4,19 @@ import de.labystudio.desktopmodules.core.addon.Addon;
 import de.labystudio.desktopmodules.core.loader.SourceClassLoader;
 import de.labystudio.desktopmodules.core.loader.SourceLoader;
 import de.labystudio.desktopmodules.core.loader.TextureLoader;
+import de.labystudio.desktopmodules.core.metrics.MetricsRegistry;
 import de.labystudio.desktopmodules.core.module.Module;
 import de.labystudio.desktopmodules.core.module.render.IModuleRenderer;
 import de.labystudio.desktopmodules.core.os.WorkingDirectory;
+import de.labystudio.desktopmodules.core.renderer.overlay.OverlayCompositor;
+import de.labystudio.desktopmodules.core.renderer.swing.SwingFrameDispatcher;
+import de.labystudio.desktopmodules.core.renderer.swing.SwingZOrderKeeper;
+import de.labystudio.desktopmodules.core.scheduler.FrameScheduler;
+import de.labystudio.desktopmodules.core.scheduler.TickScheduler;
+import de.labystudio.desktopmodules.core.task.TaskService;
 import de.labystudio.desktopmodules.core.tray.TrayHandler;
 
 import java.io.File;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.TimeUnit;
 
 /**
  * DesktopModules core main class
@@ -21,20 +25,47 @@ import java.util.concurrent.TimeUnit;
  */
 public class DesktopModules {
 
+    /**
+     * Default tick rate of a module
+     */
     public static final int TICKS_PER_SECOND = 20;
 
+    /**
+     * Default frame rate of a module
+     */
+    public static final int FRAMES_PER_SECOND = 20;
+
     private final Thread SHUTDOWN_HOOK = new Thread(this::shutdown);
 
     private final SourceClassLoader classLoader;
 
-    private final File workingDirectory = WorkingDirectory.get("DesktopModules");
+    private final File workingDirectory;
 
-    private final SourceLoader sourceLoader = new SourceLoader(this, this.workingDirectory);
+    private final SourceLoader sourceLoader;
     private final TextureLoader textureLoader = new TextureLoader(this);
+    private final TickScheduler tickScheduler = new TickScheduler(this);
+    private final FrameScheduler frameScheduler = new FrameScheduler(this);
+    private final SwingFrameDispatcher frameDispatcher = new SwingFrameDispatcher();
+    private final SwingZOrderKeeper zOrderKeeper = new SwingZOrderKeeper(this.frameDispatcher);
+    private final MetricsRegistry metricsRegistry = new MetricsRegistry();
+    private final TaskService taskService = new TaskService(this);
 
     private final TrayHandler tray;
 
-    private ScheduledFuture<?> tickTask;
+    /**
+     * Render all modules offscreen without a display
+     */
+    private final boolean headless;
+
+    /**
+     * Compositor of the overlay mode or null if each module has its own window
+     */
+    private OverlayCompositor overlayCompositor;
+
+    /**
+     * Rasterize the module frames in software instead of using Java2D
+     */
+    private boolean softwareRendering;
 
     /**
      * Create an instance of the DesktopModules application and load all addons using the given classloader
@@ -43,16 +74,74 @@ public class DesktopModules {
      * @throws Exception exception during initialization of the class
      */
     public DesktopModules(SourceClassLoader classLoader) throws Exception {
+        this(classLoader, false);
+    }
+
+    /**
+     * Create an instance of the DesktopModules application and load all addons using the given classloader
+     *
+     * @param classLoader Class loader to use for the addons
+     * @param headless    Render all modules offscreen without windows and system tray
+     * @throws Exception exception during initialization of the class
+     */
+    public DesktopModules(SourceClassLoader classLoader, boolean headless) throws Exception {
+        this(classLoader, headless, WorkingDirectory.get("DesktopModules"));
+    }
+
+    /**
+     * Create an instance of the DesktopModules application and load all addons using the given classloader
+     *
+     * @param classLoader      Class loader to use for the addons
+     * @param headless         Render all modules offscreen without windows and system tray
+     * @param workingDirectory Home directory of the application that contains the addons and configs
+     * @throws Exception exception during initialization of the class
+     */
+    public DesktopModules(SourceClassLoader classLoader, boolean headless, File workingDirectory) throws Exception {
         this.classLoader = classLoader;
+        this.headless = headless;
+        this.workingDirectory = workingDirectory;
+        this.sourceLoader = new SourceLoader(this, workingDirectory);
 
         // Add system tray
-        this.tray = new TrayHandler(this);
-        this.tray.init();
+        if (headless) {
+            this.tray = null;
+        } else {
+            this.tray = new TrayHandler(this);
+            this.tray.init();
+        }
 
         // Create shutdown hook
         Runtime.getRuntime().addShutdownHook(SHUTDOWN_HOOK);
     }
 
+    /**
+     * Enable or disable the overlay mode. All modules of a monitor are composited into one transparent
+     * overlay window instead of creating one window for each module.
+     * Has to be called before loading the addons, it has no effect in headless mode.
+     * Each module keeps its own window if the platform doesn't support shaped translucent windows.
+     *
+     * @param overlay Composite all modules into one overlay window per monitor
+     */
+    public void setOverlay(boolean overlay) {
+        if (overlay && !this.headless && !OverlayCompositor.isSupported()) {
+            System.err.println("[DesktopModules] Overlay mode is not supported on this platform, using one window per module");
+            overlay = false;
+        }
+
+        this.overlayCompositor = overlay && !this.headless ? new OverlayCompositor(this.frameDispatcher, this.zOrderKeeper) : null;
+    }
+
+    /**
+     * Enable or disable the software rasterizer. The module frames are rasterized directly into
+     * an integer pixel buffer instead of using the Java2D pipeline.
+     * Has to be called before loading the addons.
+     *
+     * @param softwareRendering Rasterize the module frames in software
+     */
+    public void setSoftwareRendering(boolean softwareRendering) {
+        this.softwareRendering = softwareRendering;
+    }
+
     /**
      * Initialize the application
      * @param loadAddons Scan addons directory and load all jars
@@ -63,42 +152,18 @@ public class DesktopModules {
             this.sourceLoader.loadAddonsInDirectoryAsync();
         }
 
-        // Start render thread
-        this.tickTask = Executors.newScheduledThreadPool(1)
-                .scheduleAtFixedRate(this::onTick, 0, 1000 / TICKS_PER_SECOND, TimeUnit.MILLISECONDS);
-    }
-
-    /**
-     * Called each tick
-     */
-    private void onTick() {
-        try {
-            // Tick all loaded modules
-            for (Module<? extends Addon> module : this.sourceLoader.getModules()) {
-                if (module.isEnabled()) {
-                    // Tick module
-                    module.onTick();
-
-                    // Repaint module
-                    IModuleRenderer moduleRenderer = module.getModuleRenderer();
-                    if (moduleRenderer != null) {
-                        moduleRenderer.requestFrame();
-                    }
-                }
-            }
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
+        // Start tick thread
+        this.tickScheduler.start();
     }
 
     /**
      * Stop all tasks, remove the tray icon, save all config files
      */
     private void shutdown() {
-        // Stop tick update task
-        if (this.tickTask != null) {
-            this.tickTask.cancel(true);
-        }
+        // Stop tick thread and all running tasks
+        this.tickScheduler.stop();
+        this.taskService.shutdown();
+        this.textureLoader.shutdown();
 
         // Disable all addons
         for (Addon addon : this.sourceLoader.getAddons()) {
@@ -125,7 +190,9 @@ public class DesktopModules {
         Runtime.getRuntime().removeShutdownHook(SHUTDOWN_HOOK);
 
         // Remove system tray (It's not possible to call it from the shutdown hook)
-        this.tray.remove();
+        if (this.tray != null) {
+            this.tray.remove();
+        }
 
         // Stop all tasks, remove the tray icon, save all config files
         shutdown();
@@ -142,6 +209,22 @@ public class DesktopModules {
         Runtime.getRuntime().halt(0);
     }
 
+    public boolean isHeadless() {
+        return headless;
+    }
+
+    public boolean isOverlay() {
+        return overlayCompositor != null;
+    }
+
+    public boolean isSoftwareRendering() {
+        return softwareRendering;
+    }
+
+    public OverlayCompositor getOverlayCompositor() {
+        return overlayCompositor;
+    }
+
     public SourceLoader getSourceLoader() {
         return sourceLoader;
     }
@@ -153,4 +236,28 @@ public class DesktopModules {
     public TextureLoader getTextureLoader() {
         return textureLoader;
     }
+
+    public TickScheduler getTickScheduler() {
+        return tickScheduler;
+    }
+
+    public FrameScheduler getFrameScheduler() {
+        return frameScheduler;
+    }
+
+    public SwingFrameDispatcher getFrameDispatcher() {
+        return frameDispatcher;
+    }
+
+    public SwingZOrderKeeper getZOrderKeeper() {
+        return zOrderKeeper;
+    }
+
+    public MetricsRegistry getMetricsRegistry() {
+        return metricsRegistry;
+    }
+
+    public TaskService getTaskService() {
+        return taskService;
+    }
 }
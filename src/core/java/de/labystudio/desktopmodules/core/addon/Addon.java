@@ -6,7 +6,9 @@ import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 import de.labystudio.desktopmodules.core.DesktopModules;
+import de.labystudio.desktopmodules.core.loader.TextureLoader;
 import de.labystudio.desktopmodules.core.module.Module;
+import de.labystudio.desktopmodules.core.task.AsyncTask;
 
 import java.io.File;
 import java.io.FileNotFoundException;
@@ -14,7 +16,9 @@ import java.io.FileReader;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.Callable;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 
 /**
  * @author LabyStudio
@@ -27,6 +31,11 @@ public abstract class Addon {
 
     protected DesktopModules desktopModules;
 
+    /**
+     * Texture loader that holds the texture references of this addon
+     */
+    private TextureLoader textureLoader;
+
     /**
      * Config element
      */
@@ -42,6 +51,7 @@ public abstract class Addon {
      */
     public void onPreInitialize(DesktopModules desktopModules) throws Exception {
         this.desktopModules = desktopModules;
+        this.textureLoader = desktopModules.getTextureLoader().forAddon(this);
     }
 
     /**
@@ -87,6 +97,12 @@ public abstract class Addon {
                 } else {
                     // Disable addon when all modules are disabled
                     onDisable();
+
+                    // Stop all async work of the addon
+                    this.desktopModules.getTaskService().cancel(this);
+
+                    // Allow the textures to be collected
+                    this.textureLoader.release();
                 }
             } catch (Exception e) {
                 e.printStackTrace();
@@ -96,11 +112,46 @@ public abstract class Addon {
         // Call module enable and disable event
         if (enabled) {
             module.onEnable();
+
+            // Publish the metrics of the module again
+            this.desktopModules.getMetricsRegistry().register(module);
         } else {
             module.onDisable();
+
+            // Stop all async work of the module
+            this.desktopModules.getTaskService().cancel(module);
+
+            // Forget the scheduling state of the module
+            this.desktopModules.getTickScheduler().remove(module);
+            this.desktopModules.getFrameScheduler().remove(module);
+
+            // Remove the metrics of the module from JMX
+            this.desktopModules.getMetricsRegistry().unregister(module);
         }
     }
 
+    /**
+     * Execute blocking work like network or file access asynchronously.
+     * The result is delivered on the tick thread and the task is cancelled when all modules are disabled.
+     *
+     * @param task     The work to execute in the background
+     * @param callback The callback that receives the result on the tick thread
+     * @param <V>      Result type of the task
+     * @return Handle to cancel the task, it is already done if the task queue of the addon is full
+     */
+    public <V> AsyncTask<V> runAsync(Callable<V> task, Consumer<V> callback) {
+        return this.desktopModules.getTaskService().submit(this, null, task, callback);
+    }
+
+    /**
+     * Get the maximum amount of async tasks of this addon that are allowed to run at the same time
+     *
+     * @return Concurrency limit of the addon
+     */
+    public int getMaxConcurrentTasks() {
+        return 2;
+    }
+
     /**
      * Load config data from json file
      *
@@ -294,6 +345,15 @@ public abstract class Addon {
         }
     }
 
+    /**
+     * Texture loader of this addon that shares the texture cache with all addons
+     *
+     * @return Texture loader of the addon
+     */
+    public TextureLoader getTextureLoader() {
+        return this.textureLoader;
+    }
+
     /**
      * Core application instance
      *
@@ -3,10 +3,12 @@ package de.labystudio.desktopmodules.core.gui.widget;
 import de.labystudio.desktopmodules.core.addon.Addon;
 import de.labystudio.desktopmodules.core.loader.TextureLoader;
 import de.labystudio.desktopmodules.core.module.Module;
+import de.labystudio.desktopmodules.core.scheduler.TickScheduler;
 
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
 import java.awt.*;
+import java.awt.event.MouseEvent;
 import java.io.File;
 import java.io.IOException;
 
@@ -19,8 +21,12 @@ public class ModuleWidget extends JPanel {
 
     public static final int WIDGET_HEIGHT = 60;
     private static final Font FONT = new Font("Dubai Medium", Font.PLAIN, 18);
+    private static final Font FONT_STATUS = new Font("Dubai Medium", Font.PLAIN, 12);
+
+    private static final Color COLOR_QUARANTINED = new Color(190, 40, 40);
 
     private final Module<? extends Addon> module;
+    private final TickScheduler tickScheduler;
 
 
     /**
@@ -32,6 +38,10 @@ public class ModuleWidget extends JPanel {
         this.module = module;
 
         Addon addon = module.getAddon();
+        this.tickScheduler = addon.getDesktopModules().getTickScheduler();
+
+        // Show the reason of the quarantine, the text is created when the tooltip is shown
+        ToolTipManager.sharedInstance().registerComponent(this);
 
         // Create switch widget
         SwitchWidget switchWidget = new SwitchWidget(module.isEnabled());
@@ -75,6 +85,25 @@ public class ModuleWidget extends JPanel {
         add(settingsPanel);
     }
 
+    @Override
+    public String getToolTipText(MouseEvent event) {
+        String status = getQuarantineStatus();
+        return status == null ? null : status + ": " + this.tickScheduler.getLastFailure(this.module);
+    }
+
+    /**
+     * Get the current quarantine state of the watchdog with the remaining backoff
+     *
+     * @return Quarantine description or null if the module is not quarantined
+     */
+    private String getQuarantineStatus() {
+        long remaining = this.tickScheduler.getQuarantineRemaining(this.module);
+        if (remaining <= 0) {
+            return null;
+        }
+        return "Quarantined by watchdog for " + Math.max(1, (remaining + 999) / 1000) + "s";
+    }
+
     @Override
     public void paint(Graphics g) {
         super.paint(g);
@@ -92,6 +121,17 @@ public class ModuleWidget extends JPanel {
         // Draw module name
         g.setFont(FONT);
         g.setColor(Color.DARK_GRAY);
-        g.drawString(this.module.getDisplayName(), getHeight() + iconPadding, getHeight() / 2 + 7);
+
+        String quarantineStatus = getQuarantineStatus();
+        if (quarantineStatus != null) {
+            g.drawString(this.module.getDisplayName(), getHeight() + iconPadding, getHeight() / 2);
+
+            // Draw quarantine state of the watchdog
+            g.setFont(FONT_STATUS);
+            g.setColor(COLOR_QUARANTINED);
+            g.drawString(quarantineStatus, getHeight() + iconPadding, getHeight() / 2 + 16);
+        } else {
+            g.drawString(this.module.getDisplayName(), getHeight() + iconPadding, getHeight() / 2 + 7);
+        }
     }
 }
@@ -0,0 +1,48 @@
+package de.labystudio.desktopmodules.core.loader;
+
+import java.awt.image.BufferedImage;
+import java.util.Collections;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * Marks the images created by the {@link TextureLoader} that never change after they were loaded.
+ * Only marked images can be compared by identity or cached in other forms, because addons are allowed
+ * to draw into their own images in place.
+ *
+ * @author LabyStudio
+ */
+public final class ImmutableTextures {
+
+    /**
+     * All marked images, they are removed when they are collected
+     */
+    private static final Set<BufferedImage> IMAGES = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
+    private ImmutableTextures() {
+    }
+
+    /**
+     * Mark the given image as immutable
+     *
+     * @param image The image that never changes or null
+     * @param <T>   Type of the image
+     * @return The same image
+     */
+    public static <T extends BufferedImage> T mark(T image) {
+        if (image != null) {
+            IMAGES.add(image);
+        }
+        return image;
+    }
+
+    /**
+     * Check if the given image never changes
+     *
+     * @param image The image to check
+     * @return The image was created by the texture loader
+     */
+    public static boolean isImmutable(BufferedImage image) {
+        return IMAGES.contains(image);
+    }
+}
@@ -0,0 +1,88 @@
+package de.labystudio.desktopmodules.core.loader;
+
+import java.awt.image.BufferedImage;
+
+/**
+ * Image with pre-filtered levels of half the size each.
+ * The image itself is the full resolution level, so it can be used like any other image.
+ * Render contexts pick the nearest level for the effective draw size instead of filtering the full image.
+ *
+ * @author LabyStudio
+ */
+public class MipmappedImage extends BufferedImage {
+
+    /**
+     * All levels, starting with the full resolution level
+     */
+    private final BufferedImage[] levels;
+
+    /**
+     * Create a mipmapped image that shares the pixel data with the given full resolution level
+     *
+     * @param base   The full resolution level
+     * @param levels All levels including the full resolution level
+     */
+    private MipmappedImage(BufferedImage base, BufferedImage[] levels) {
+        super(base.getColorModel(), base.getRaster(), base.isAlphaPremultiplied(), null);
+        this.levels = levels;
+        this.levels[0] = this;
+    }
+
+    /**
+     * Create all levels of the given image down to a size of one pixel
+     *
+     * @param image The full resolution image
+     * @return Mipmapped image that shares the pixel data with the given image
+     */
+    public static MipmappedImage create(BufferedImage image) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+
+        int count = 1;
+        while (width > 1 || height > 1) {
+            width = Math.max(1, width / 2);
+            height = Math.max(1, height / 2);
+            count++;
+        }
+
+        // Each level is filtered from the previous level
+        BufferedImage base = TextureFormat.convert(image);
+        BufferedImage[] levels = new BufferedImage[count];
+        BufferedImage level = base;
+        for (int i = 1; i < count; i++) {
+            level = TextureFormat.resize(level, Math.max(1, level.getWidth() / 2), Math.max(1, level.getHeight() / 2));
+            // The reduced levels are never modified
+            levels[i] = ImmutableTextures.mark(level);
+        }
+
+        return new MipmappedImage(base, levels);
+    }
+
+    /**
+     * Get the smallest level that is still at least as large as the given size
+     *
+     * @param width  Target width in device pixels
+     * @param height Target height in device pixels
+     * @return The nearest level that only has to be reduced
+     */
+    public BufferedImage getLevel(double width, double height) {
+        BufferedImage level = this.levels[0];
+        for (int i = 1; i < this.levels.length; i++) {
+            BufferedImage next = this.levels[i];
+            if (next.getWidth() < width || next.getHeight() < height) {
+                break;
+            }
+            level = next;
+        }
+        return level;
+    }
+
+    /**
+     * Get the amount of levels
+     *
+     * @return Amount of levels including the full resolution level
+     */
+    public int getLevelCount() {
+        return this.levels.length;
+    }
+}
@@ -219,7 +219,7 @@ public class SourceLoader {
         JsonObject moduleConfig = addon.getModuleConfig(module);
 
         // Initialize the module
-        module.loadTextures(this.desktopModules.getTextureLoader());
+        module.loadTextures(addon.getTextureLoader());
         module.onInitialize(addon, moduleConfig);
 
         // Register the module
@@ -0,0 +1,79 @@
+package de.labystudio.desktopmodules.core.loader;
+
+import java.awt.image.BufferedImage;
+
+/**
+ * Handle of a texture that is decoded in the background.
+ * A transparent placeholder is returned until the texture is loaded or if it failed to load.
+ *
+ * @author LabyStudio
+ */
+public class Texture {
+
+    /**
+     * Placeholder of all textures that are not loaded yet
+     */
+    private static final BufferedImage PLACEHOLDER = ImmutableTextures.mark(new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB));
+
+    private final String path;
+
+    private volatile BufferedImage image;
+    private volatile boolean failed;
+
+    /**
+     * Create a texture handle for the given path
+     *
+     * @param path Resources path of the texture
+     */
+    public Texture(String path) {
+        this.path = path;
+    }
+
+    /**
+     * Complete the texture with the decoded image
+     *
+     * @param image The decoded image
+     */
+    void complete(BufferedImage image) {
+        this.image = image;
+    }
+
+    /**
+     * Mark the texture as failed, it keeps returning the placeholder
+     */
+    void fail() {
+        this.failed = true;
+    }
+
+    /**
+     * Get the decoded image or the placeholder if it is not loaded yet
+     *
+     * @return Image to render
+     */
+    public BufferedImage get() {
+        BufferedImage image = this.image;
+        return image == null ? PLACEHOLDER : image;
+    }
+
+    /**
+     * Is the texture decoded
+     *
+     * @return Texture is available
+     */
+    public boolean isLoaded() {
+        return this.image != null;
+    }
+
+    /**
+     * Did the texture fail to load
+     *
+     * @return Texture couldn't be decoded and will never be available
+     */
+    public boolean isFailed() {
+        return this.failed;
+    }
+
+    public String getPath() {
+        return this.path;
+    }
+}
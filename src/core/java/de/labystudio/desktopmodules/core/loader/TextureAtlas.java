@@ -0,0 +1,179 @@
+package de.labystudio.desktopmodules.core.loader;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Packs small textures into shared sheets to avoid the overhead of many tiny images.
+ * Each packed texture is returned as a sub-image of its sheet, so it can be drawn like any other image.
+ * <p>
+ * The sheets are filled row by row. Sprites stay packed for the lifetime of the atlas.
+ *
+ * @author LabyStudio
+ */
+public class TextureAtlas {
+
+    /**
+     * Default width and height of a sheet
+     */
+    public static final int DEFAULT_SHEET_SIZE = 1024;
+
+    /**
+     * Default maximum width and height of a packed texture
+     */
+    public static final int DEFAULT_MAX_SPRITE_SIZE = 128;
+
+    /**
+     * Empty pixels between the sprites
+     */
+    private static final int PADDING = 1;
+
+    private final int sheetSize;
+    private final int maxSpriteSize;
+
+    private final List<Sheet> sheets = new ArrayList<>();
+
+    /**
+     * Packed sprites by their key
+     */
+    private final Map<Object, BufferedImage> sprites = new HashMap<>();
+
+    public TextureAtlas() {
+        this(DEFAULT_SHEET_SIZE, DEFAULT_MAX_SPRITE_SIZE);
+    }
+
+    /**
+     * Create a texture atlas
+     *
+     * @param sheetSize     Width and height of a sheet
+     * @param maxSpriteSize Maximum width and height of a packed texture
+     */
+    public TextureAtlas(int sheetSize, int maxSpriteSize) {
+        this.sheetSize = sheetSize;
+        this.maxSpriteSize = Math.min(maxSpriteSize, sheetSize - PADDING * 2);
+    }
+
+    /**
+     * Get the packed sprite with the given key or load and pack it
+     *
+     * @param key    Unique key of the sprite
+     * @param loader Loads the texture if it is not packed yet
+     * @return The packed sprite, the loaded texture itself if it is too large to be packed or null if it couldn't be loaded
+     */
+    public synchronized BufferedImage get(Object key, Supplier<BufferedImage> loader) {
+        BufferedImage sprite = this.sprites.get(key);
+        if (sprite == null) {
+            BufferedImage image = loader.get();
+            if (image == null) {
+                return null;
+            }
+
+            sprite = pack(image);
+            this.sprites.put(key, sprite);
+        }
+        return sprite;
+    }
+
+    /**
+     * Copy the given texture into a sheet
+     *
+     * @param image The texture to pack
+     * @return Sub-image of the sheet or the texture itself if it is too large
+     */
+    public synchronized BufferedImage pack(BufferedImage image) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        if (width > this.maxSpriteSize || height > this.maxSpriteSize) {
+            return image;
+        }
+
+        // Find a sheet with enough space
+        Sheet target = null;
+        for (Sheet sheet : this.sheets) {
+            if (sheet.allocate(width, height)) {
+                target = sheet;
+                break;
+            }
+        }
+        if (target == null) {
+            target = new Sheet(this.sheetSize);
+            target.allocate(width, height);
+            this.sheets.add(target);
+        }
+
+        // Copy the texture into the allocated region
+        Graphics2D graphics = target.image.createGraphics();
+        try {
+            graphics.setComposite(AlphaComposite.Src);
+            graphics.drawImage(image, target.allocatedX, target.allocatedY, null);
+        } finally {
+            graphics.dispose();
+        }
+
+        return target.image.getSubimage(target.allocatedX, target.allocatedY, width, height);
+    }
+
+    /**
+     * Get the amount of created sheets
+     *
+     * @return Amount of sheets
+     */
+    public synchronized int getSheetCount() {
+        return this.sheets.size();
+    }
+
+    /**
+     * A sheet that is filled row by row
+     */
+    private static class Sheet {
+
+        private final BufferedImage image;
+
+        private int rowX = PADDING;
+        private int rowY = PADDING;
+        private int rowHeight;
+
+        /**
+         * Position of the last allocation
+         */
+        private int allocatedX;
+        private int allocatedY;
+
+        private Sheet(int size) {
+            this.image = TextureFormat.create(size, size);
+        }
+
+        /**
+         * Allocate a region of the given size
+         *
+         * @param width  Width of the region
+         * @param height Height of the region
+         * @return The region fits into the sheet
+         */
+        private boolean allocate(int width, int height) {
+            // Start a new row if the current row is full
+            if (this.rowX + width + PADDING > this.image.getWidth()) {
+                this.rowX = PADDING;
+                this.rowY += this.rowHeight + PADDING;
+                this.rowHeight = 0;
+            }
+
+            if (this.rowY + height + PADDING > this.image.getHeight()) {
+                return false;
+            }
+
+            this.allocatedX = this.rowX;
+            this.allocatedY = this.rowY;
+
+            this.rowX += width + PADDING;
+            this.rowHeight = Math.max(this.rowHeight, height);
+            return true;
+        }
+    }
+}
@@ -0,0 +1,248 @@
+package de.labystudio.desktopmodules.core.loader;
+
+import java.awt.image.BufferedImage;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Shared cache of decoded textures keyed by class loader, path and size.
+ * <p>
+ * Each owner holds a reference to the textures it loaded. Referenced textures are kept in memory,
+ * released textures are only softly reachable and will be collected under memory pressure.
+ *
+ * @author LabyStudio
+ */
+public class TextureCache {
+
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Loaded textures of each owner
+     */
+    private final Map<Object, Set<Key>> owners = new ConcurrentHashMap<>();
+
+    /**
+     * Queue of the collected textures
+     */
+    private final ReferenceQueue<BufferedImage> collectedQueue = new ReferenceQueue<>();
+
+    /**
+     * Get the cached texture or load it and hold a reference for the given owner
+     *
+     * @param owner       The owner of the reference
+     * @param classLoader Class loader of the texture resource
+     * @param path        Resources path
+     * @param width       Texture width or 0 for the original size
+     * @param height      Texture height or 0 for the original size
+     * @param loader      Decodes the texture if it is not cached
+     * @return The shared texture or null if it couldn't be loaded
+     */
+    public BufferedImage get(Object owner, ClassLoader classLoader, String path, int width, int height, Supplier<BufferedImage> loader) {
+        expungeCollected();
+
+        Key key = new Key(classLoader, path, width, height);
+        Entry entry = this.entries.computeIfAbsent(key, Entry::new);
+
+        BufferedImage image = entry.get(loader, this.collectedQueue);
+        if (image == null) {
+            return null;
+        }
+
+        // Hold a reference for the owner
+        Set<Key> keys = this.owners.computeIfAbsent(owner, unused -> Collections.synchronizedSet(new HashSet<>()));
+        if (keys.add(key)) {
+            entry.retain();
+        }
+
+        return image;
+    }
+
+    /**
+     * Get the cached texture without loading it and without holding a reference
+     *
+     * @param classLoader Class loader of the texture resource
+     * @param path        Resources path
+     * @param width       Texture width or 0 for the original size
+     * @param height      Texture height or 0 for the original size
+     * @return The cached texture or null if it is not cached
+     */
+    public BufferedImage getIfPresent(ClassLoader classLoader, String path, int width, int height) {
+        Entry entry = this.entries.get(new Key(classLoader, path, width, height));
+        return entry == null ? null : entry.peek();
+    }
+
+    /**
+     * Release all texture references of the given owner.
+     * Textures without references stay cached until the memory runs low.
+     *
+     * @param owner The owner to release the references of
+     */
+    public void release(Object owner) {
+        Set<Key> keys = this.owners.remove(owner);
+        if (keys == null) {
+            return;
+        }
+
+        synchronized (keys) {
+            for (Key key : keys) {
+                Entry entry = this.entries.get(key);
+                if (entry != null) {
+                    entry.release();
+                }
+            }
+        }
+    }
+
+    /**
+     * Remove all cached textures and the references of all owners
+     */
+    public void clear() {
+        this.entries.clear();
+        this.owners.clear();
+    }
+
+    /**
+     * Remove the entries of textures that were collected by the garbage collector
+     */
+    private void expungeCollected() {
+        Object reference;
+        while ((reference = this.collectedQueue.poll()) != null) {
+            Key key = ((TextureReference) reference).key;
+            this.entries.computeIfPresent(key, (unused, entry) -> entry.isCollected() ? null : entry);
+        }
+    }
+
+    /**
+     * Get the amount of cached textures
+     *
+     * @return Amount of entries
+     */
+    public int size() {
+        return this.entries.size();
+    }
+
+    /**
+     * Cached texture with its reference count
+     */
+    private static class Entry {
+
+        private final Key key;
+
+        private SoftReference<BufferedImage> reference;
+
+        /**
+         * Strong reference while the texture is referenced by at least one owner
+         */
+        private BufferedImage pinned;
+        private int references;
+
+        private Entry(Key key) {
+            this.key = key;
+        }
+
+        /**
+         * Get the cached texture or decode it
+         *
+         * @param loader Decodes the texture
+         * @param queue  Queue to register the soft reference with
+         * @return The texture or null if it couldn't be loaded
+         */
+        private synchronized BufferedImage get(Supplier<BufferedImage> loader, ReferenceQueue<BufferedImage> queue) {
+            BufferedImage image = this.reference == null ? null : this.reference.get();
+            if (image == null) {
+                image = loader.get();
+                if (image == null) {
+                    return null;
+                }
+
+                this.reference = new TextureReference(image, this.key, queue);
+                if (this.references > 0) {
+                    this.pinned = image;
+                }
+            }
+            return image;
+        }
+
+        private synchronized BufferedImage peek() {
+            return this.reference == null ? null : this.reference.get();
+        }
+
+        private synchronized void retain() {
+            if (this.references++ == 0) {
+                this.pinned = this.reference == null ? null : this.reference.get();
+            }
+        }
+
+        private synchronized void release() {
+            if (this.references > 0 && --this.references == 0) {
+                this.pinned = null;
+            }
+        }
+
+        private synchronized boolean isCollected() {
+            return this.pinned == null && (this.reference == null || this.reference.get() == null);
+        }
+    }
+
+    /**
+     * Soft reference that remembers the key of its entry
+     */
+    private static class TextureReference extends SoftReference<BufferedImage> {
+
+        private final Key key;
+
+        private TextureReference(BufferedImage image, Key key, ReferenceQueue<BufferedImage> queue) {
+            super(image, queue);
+            this.key = key;
+        }
+    }
+
+    /**
+     * Cache key of a texture
+     */
+    private static class Key {
+
+        private final ClassLoader classLoader;
+        private final String path;
+        private final int width;
+        private final int height;
+
+        private Key(ClassLoader classLoader, String path, int width, int height) {
+            this.classLoader = classLoader;
+            this.path = path;
+            this.width = width;
+            this.height = height;
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            if (this == object) {
+                return true;
+            }
+            if (!(object instanceof Key)) {
+                return false;
+            }
+
+            Key key = (Key) object;
+            return this.classLoader == key.classLoader
+                    && this.path.equals(key.path)
+                    && this.width == key.width
+                    && this.height == key.height;
+        }
+
+        @Override
+        public int hashCode() {
+            int result = System.identityHashCode(this.classLoader);
+            result = 31 * result + this.path.hashCode();
+            result = 31 * result + this.width;
+            result = 31 * result + this.height;
+            return result;
+        }
+    }
+}
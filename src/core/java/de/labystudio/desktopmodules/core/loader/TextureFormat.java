@@ -0,0 +1,135 @@
+package de.labystudio.desktopmodules.core.loader;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.GraphicsEnvironment;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.awt.image.ColorModel;
+import java.awt.image.DirectColorModel;
+import java.awt.image.WritableRaster;
+
+/**
+ * Display compatible premultiplied ARGB format of all loaded textures.
+ * Java2D can draw images of this format using its accelerated blit loops
+ * instead of converting each pixel of custom image types on every draw.
+ *
+ * @author LabyStudio
+ */
+public final class TextureFormat {
+
+    /**
+     * Premultiplied color model of the default screen or null to use {@link BufferedImage#TYPE_INT_ARGB_PRE}
+     */
+    private static final ColorModel COLOR_MODEL = createColorModel();
+
+    private TextureFormat() {
+    }
+
+    /**
+     * Create an empty image in the texture format
+     *
+     * @param width  Image width
+     * @param height Image height
+     * @return Transparent image
+     */
+    public static BufferedImage create(int width, int height) {
+        if (COLOR_MODEL == null) {
+            return new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB_PRE);
+        }
+
+        WritableRaster raster = COLOR_MODEL.createCompatibleWritableRaster(width, height);
+        return new BufferedImage(COLOR_MODEL, raster, true, null);
+    }
+
+    /**
+     * Convert the given image into the texture format
+     *
+     * @param image The source image
+     * @return The same image if it already has the texture format or a converted copy
+     */
+    public static BufferedImage convert(BufferedImage image) {
+        if (isCompatible(image)) {
+            return image;
+        }
+
+        BufferedImage converted = create(image.getWidth(), image.getHeight());
+        Graphics2D graphics = converted.createGraphics();
+        try {
+            graphics.setComposite(AlphaComposite.Src);
+            graphics.drawImage(image, 0, 0, null);
+        } finally {
+            graphics.dispose();
+        }
+        return converted;
+    }
+
+    /**
+     * Create a resized copy of the given image in the texture format.
+     * Large reductions are done in multiple bilinear steps that halve the size each time,
+     * because a single bilinear pass skips most of the source pixels.
+     *
+     * @param image  The source image
+     * @param width  Target width
+     * @param height Target height
+     * @return Resized image
+     */
+    public static BufferedImage resize(BufferedImage image, int width, int height) {
+        BufferedImage current = image;
+        int currentWidth = image.getWidth();
+        int currentHeight = image.getHeight();
+
+        do {
+            // Halve the size until the last step is at most a reduction by two
+            currentWidth = currentWidth / 2 >= width ? currentWidth / 2 : width;
+            currentHeight = currentHeight / 2 >= height ? currentHeight / 2 : height;
+
+            BufferedImage resized = create(currentWidth, currentHeight);
+            Graphics2D graphics = resized.createGraphics();
+            try {
+                graphics.setComposite(AlphaComposite.Src);
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                graphics.drawImage(current, 0, 0, currentWidth, currentHeight, 0, 0, current.getWidth(), current.getHeight(), null);
+            } finally {
+                graphics.dispose();
+            }
+            current = resized;
+        } while (currentWidth != width || currentHeight != height);
+
+        return current;
+    }
+
+    /**
+     * Check if the given image has the texture format
+     *
+     * @param image The image to check
+     * @return Image can be drawn without conversion
+     */
+    public static boolean isCompatible(BufferedImage image) {
+        if (COLOR_MODEL == null) {
+            return image.getType() == BufferedImage.TYPE_INT_ARGB_PRE;
+        }
+        return COLOR_MODEL.equals(image.getColorModel());
+    }
+
+    /**
+     * Create the premultiplied variant of the translucent color model of the default screen
+     *
+     * @return Color model or null if there is no screen or it has no direct color model
+     */
+    private static ColorModel createColorModel() {
+        if (GraphicsEnvironment.isHeadless()) {
+            return null;
+        }
+
+        ColorModel model = GraphicsEnvironment.getLocalGraphicsEnvironment()
+                .getDefaultScreenDevice().getDefaultConfiguration().getColorModel(Transparency.TRANSLUCENT);
+        if (!(model instanceof DirectColorModel)) {
+            return null;
+        }
+
+        return model.coerceData(model.createCompatibleWritableRaster(1, 1), true);
+    }
+}
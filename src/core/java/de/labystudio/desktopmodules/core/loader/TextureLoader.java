@@ -1,21 +1,105 @@
 package de.labystudio.desktopmodules.core.loader;
 
 import de.labystudio.desktopmodules.core.DesktopModules;
+import de.labystudio.desktopmodules.core.addon.Addon;
 
 import javax.imageio.ImageIO;
-import java.awt.*;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URLClassLoader;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * Loads textures from the resources of the addons.
+ * All loaded textures are shared through a {@link TextureCache}, so the same texture is only decoded once.
+ * The textures are converted into the display compatible {@link TextureFormat}.
+ * The returned images must not be modified, they are marked as {@link ImmutableTextures}.
+ *
+ * @author LabyStudio
+ */
 public class TextureLoader {
 
     private final DesktopModules desktopModules;
+    private final TextureCache cache;
+
+    /**
+     * Shared sheets of the small textures that stay loaded
+     */
+    private final TextureAtlas atlas;
+
+    /**
+     * Background threads to decode the asynchronous textures
+     */
+    private final ExecutorService decoder;
+
+    /**
+     * Owner of the texture references or this loader for the core textures
+     */
+    private final Object owner;
 
     public TextureLoader(DesktopModules desktopModules) {
         this.desktopModules = desktopModules;
+        this.cache = new TextureCache();
+        this.atlas = new TextureAtlas();
+        this.owner = this;
+
+        AtomicInteger threadId = new AtomicInteger();
+        this.decoder = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), runnable -> {
+            Thread thread = new Thread(runnable, "DesktopModules Texture Decoder #" + threadId.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Create a texture loader that holds the texture references for the given owner
+     *
+     * @param parent The texture loader to share the cache with
+     * @param owner  The owner of the texture references
+     */
+    private TextureLoader(TextureLoader parent, Object owner) {
+        this.desktopModules = parent.desktopModules;
+        this.cache = parent.cache;
+        this.atlas = parent.atlas;
+        this.decoder = parent.decoder;
+        this.owner = owner;
+    }
+
+    /**
+     * Create a texture loader for the given addon that shares the cache with this loader.
+     * The textures of the addon can be released using {@link TextureLoader#release()}.
+     *
+     * @param addon The addon that loads the textures
+     * @return Texture loader of the addon
+     */
+    public TextureLoader forAddon(Addon addon) {
+        return new TextureLoader(this, addon);
+    }
+
+    /**
+     * Release all textures that were loaded by this loader.
+     * They stay cached until the memory runs low.
+     */
+    public void release() {
+        this.cache.release(this.owner);
+    }
+
+    /**
+     * Remove all textures from the shared cache, they are decoded again on the next load.
+     * The textures of the atlas stay loaded.
+     */
+    public void clearCache() {
+        this.cache.clear();
     }
 
     /**
@@ -25,10 +109,104 @@ public class TextureLoader {
      * @return Buffered image
      */
     public BufferedImage load(String path) {
+        return this.cache.get(this.owner, this.desktopModules.getClassLoader(), path, 0, 0, () -> ImmutableTextures.mark(decode(path, 0, 0)));
+    }
+
+    /**
+     * Load a texture from resources path in the background
+     *
+     * @param path     Resources path
+     * @param onLoaded Called on the decoder thread after the texture is loaded or failed to load, e.g. to invalidate the module
+     * @return Texture handle that returns a placeholder until it is loaded
+     */
+    public Texture loadAsync(String path, Runnable onLoaded) {
+        return loadAsync(path, 0, 0, onLoaded);
+    }
+
+    /**
+     * Load a texture from resources path with given size in the background
+     *
+     * @param path     Resources path
+     * @param width    Image width or 0 for the original size
+     * @param height   Image height or 0 for the original size
+     * @param onLoaded Called on the decoder thread after the texture is loaded or failed to load, e.g. to invalidate the module
+     * @return Texture handle that returns a placeholder until it is loaded
+     */
+    public Texture loadAsync(String path, int width, int height, Runnable onLoaded) {
+        Texture texture = new Texture(path);
+
+        try {
+            this.decoder.execute(() -> {
+                BufferedImage image = null;
+                try {
+                    image = width > 0 && height > 0 ? load(path, width, height) : load(path);
+                } catch (Exception e) {
+                    e.printStackTrace();
+                }
+
+                if (image == null) {
+                    System.err.println("[TextureLoader] Failed to load texture " + path);
+                    texture.fail();
+                } else {
+                    texture.complete(image);
+                }
+
+                try {
+                    onLoaded.run();
+                } catch (Exception e) {
+                    e.printStackTrace();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // The decoder is already shut down
+        }
+
+        return texture;
+    }
+
+    /**
+     * Stop the background decoding
+     */
+    public void shutdown() {
+        this.decoder.shutdownNow();
+    }
+
+    /**
+     * Decode buffered image from resources path.
+     * If a target size is given, the reader skips source pixels so that the decoded image is still
+     * at least twice as large as the target size. The remaining reduction is done by a filtered resize.
+     *
+     * @param path   Resources path
+     * @param width  Target width or 0 for the original size
+     * @param height Target height or 0 for the original size
+     * @return Buffered image in the texture format
+     */
+    private BufferedImage decode(String path, int width, int height) {
         try {
             URLClassLoader classLoader = this.desktopModules.getClassLoader();
-            try (InputStream inputStream = Objects.requireNonNull(classLoader.getResourceAsStream(path))) {
-                return ImageIO.read(inputStream);
+            try (InputStream inputStream = Objects.requireNonNull(classLoader.getResourceAsStream(path));
+                 ImageInputStream imageInputStream = ImageIO.createImageInputStream(inputStream)) {
+                Iterator<ImageReader> readers = ImageIO.getImageReaders(imageInputStream);
+                if (!readers.hasNext()) {
+                    return null;
+                }
+
+                ImageReader reader = readers.next();
+                try {
+                    reader.setInput(imageInputStream, true, true);
+
+                    // Skip source pixels while decoding large images for small targets
+                    ImageReadParam param = reader.getDefaultReadParam();
+                    if (width > 0 && height > 0) {
+                        int subsampling = Math.max(1, Math.min(reader.getWidth(0) / (width * 2), reader.getHeight(0) / (height * 2)));
+                        param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                    }
+
+                    // Convert once to avoid the conversion on each draw
+                    return TextureFormat.convert(reader.read(0, param));
+                } finally {
+                    reader.dispose();
+                }
             }
         } catch (IOException exception) {
             exception.printStackTrace();
@@ -57,16 +235,70 @@ public class TextureLoader {
      * @return Buffered image
      */
     public BufferedImage load(String path, int width, int height) {
-        BufferedImage image = load(path);
+        return this.cache.get(this.owner, this.desktopModules.getClassLoader(), path, width, height, () -> ImmutableTextures.mark(decodeResized(path, width, height)));
+    }
+
+    /**
+     * Decode buffered image from resources path with given size
+     *
+     * @param path   Resources path
+     * @param width  Image width
+     * @param height Image height
+     * @return Resized image
+     */
+    private BufferedImage decodeResized(String path, int width, int height) {
+        // Resize the original texture if it is already decoded
+        BufferedImage image = this.cache.getIfPresent(this.desktopModules.getClassLoader(), path, 0, 0);
+        if (image == null) {
+            image = decode(path, width, height);
+        }
 
-        // Resize
-        BufferedImage resized = new BufferedImage(width, height, image.getType());
-        Graphics2D g = resized.createGraphics();
-        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
-        g.drawImage(image, 0, 0, width, height, 0, 0, image.getWidth(), image.getHeight(), null);
-        g.dispose();
+        return image == null ? null : TextureFormat.resize(image, width, height);
+    }
 
-        return resized;
+    /**
+     * Load a small texture like an icon from resources path and pack it into the shared {@link TextureAtlas}.
+     * Packed textures are never released, so this is only meant for textures that stay loaded.
+     *
+     * @param path Resources path
+     * @return Sub-image of an atlas sheet
+     */
+    public BufferedImage loadSprite(String path) {
+        return ImmutableTextures.mark(this.atlas.get(Arrays.asList(this.desktopModules.getClassLoader(), path), () -> {
+            // Pack the original texture if it is already decoded
+            BufferedImage image = this.cache.getIfPresent(this.desktopModules.getClassLoader(), path, 0, 0);
+            return image != null ? image : decode(path, 0, 0);
+        }));
+    }
+
+    /**
+     * Load a small texture like an icon from resources path with given size and pack it into the shared {@link TextureAtlas}.
+     * Packed textures are never released, so this is only meant for textures that stay loaded.
+     *
+     * @param path   Resources path
+     * @param width  Image width
+     * @param height Image height
+     * @return Sub-image of an atlas sheet
+     */
+    public BufferedImage loadSprite(String path, int width, int height) {
+        return ImmutableTextures.mark(this.atlas.get(Arrays.asList(this.desktopModules.getClassLoader(), path, width, height),
+                () -> decodeResized(path, width, height)));
+    }
+
+    /**
+     * Load buffered image from resources path with pre-filtered levels of half the size each.
+     * Use this for textures that are drawn at changing sizes, e.g. zoomable content or on HiDPI screens.
+     * The render context picks the nearest level for the effective draw size.
+     *
+     * @param path Resources path
+     * @return Mipmapped image in the original size
+     */
+    public MipmappedImage loadMipmapped(String path) {
+        // The levels are cached separately from the plain texture with a size of -1
+        return (MipmappedImage) this.cache.get(this.owner, this.desktopModules.getClassLoader(), path, -1, -1, () -> {
+            BufferedImage image = load(path);
+            return image == null ? null : ImmutableTextures.mark(MipmappedImage.create(image));
+        });
     }
 
     /**
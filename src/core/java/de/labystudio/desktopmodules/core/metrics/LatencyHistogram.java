@@ -0,0 +1,134 @@
+package de.labystudio.desktopmodules.core.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free and allocation-free latency histogram with logarithmic buckets.
+ * Each power of two is split into linear sub buckets, so every recorded value
+ * is stored with a relative precision of 1 / {@link LatencyHistogram#SUB_BUCKET_COUNT}.
+ *
+ * @author LabyStudio
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong sum = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Record a value
+     *
+     * @param value The value to record, negative values are recorded as zero
+     */
+    public void record(long value) {
+        if (value < 0) {
+            value = 0;
+        }
+
+        this.buckets.incrementAndGet(indexOf(value));
+        this.count.incrementAndGet();
+        this.sum.addAndGet(value);
+
+        // Update the maximum value
+        long currentMax;
+        while (value > (currentMax = this.max.get())) {
+            if (this.max.compareAndSet(currentMax, value)) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * Get the value at the given percentile
+     *
+     * @param percentile Percentile from 0 to 100
+     * @return The highest value of the bucket that contains the percentile
+     */
+    public long getValueAtPercentile(double percentile) {
+        long total = this.count.get();
+        if (total == 0) {
+            return 0;
+        }
+
+        long target = Math.max(1, (long) Math.ceil(percentile / 100.0D * total));
+        long cumulative = 0;
+
+        for (int index = 0; index < BUCKET_COUNT; index++) {
+            cumulative += this.buckets.get(index);
+            if (cumulative >= target) {
+                return Math.min(highestValueOf(index), this.max.get());
+            }
+        }
+
+        return this.max.get();
+    }
+
+    /**
+     * Get the average of all recorded values
+     *
+     * @return Mean value
+     */
+    public long getMean() {
+        long total = this.count.get();
+        return total == 0 ? 0 : this.sum.get() / total;
+    }
+
+    public long getMax() {
+        return this.max.get();
+    }
+
+    public long getCount() {
+        return this.count.get();
+    }
+
+    /**
+     * Clear all recorded values
+     */
+    public void reset() {
+        for (int index = 0; index < BUCKET_COUNT; index++) {
+            this.buckets.set(index, 0);
+        }
+        this.count.set(0);
+        this.sum.set(0);
+        this.max.set(0);
+    }
+
+    /**
+     * Get the bucket index of the given value
+     *
+     * @param value Positive value
+     * @return Bucket index
+     */
+    private static int indexOf(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+
+        int shift = (Long.SIZE - 1 - Long.numberOfLeadingZeros(value)) - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) & (SUB_BUCKET_COUNT - 1);
+        return (shift + 1) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    /**
+     * Get the highest value that is stored in the given bucket
+     *
+     * @param index Bucket index
+     * @return Highest value of the bucket
+     */
+    private static long highestValueOf(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+
+        int shift = index / SUB_BUCKET_COUNT - 1;
+        int subBucket = index % SUB_BUCKET_COUNT;
+        return ((long) (SUB_BUCKET_COUNT | subBucket) << shift) + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,132 @@
+package de.labystudio.desktopmodules.core.metrics;
+
+import de.labystudio.desktopmodules.core.addon.Addon;
+import de.labystudio.desktopmodules.core.module.Module;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Creates the metrics of each module and publishes them as MBeans
+ * under the {@value MetricsRegistry#DOMAIN} domain
+ *
+ * @author LabyStudio
+ */
+public class MetricsRegistry {
+
+    public static final String DOMAIN = "de.labystudio.desktopmodules";
+
+    private final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+    /**
+     * Metrics and MBean name of each module
+     */
+    private final Map<Module<? extends Addon>, Registration> registrations = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * Metrics that are currently published under each MBean name
+     */
+    private final Map<ObjectName, ModuleMetrics> published = new ConcurrentHashMap<>();
+
+    /**
+     * Create the metrics of the given module and register them at the platform MBean server.
+     * A module that was registered before publishes its existing metrics again.
+     *
+     * @param module The module to create the metrics for
+     * @return The metrics of the module
+     */
+    public ModuleMetrics register(Module<? extends Addon> module) {
+        Registration registration;
+        synchronized (this.registrations) {
+            registration = this.registrations.get(module);
+            if (registration == null) {
+                registration = new Registration(new ModuleMetrics(), createName(module));
+                this.registrations.put(module, registration);
+            }
+        }
+
+        ObjectName name = registration.name;
+        try {
+            if (name != null && this.published.get(name) != registration.metrics) {
+                // Replace metrics of a previously loaded module with the same name
+                if (this.server.isRegistered(name)) {
+                    this.server.unregisterMBean(name);
+                }
+                this.server.registerMBean(registration.metrics, name);
+                this.published.put(name, registration.metrics);
+            }
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+
+        return registration.metrics;
+    }
+
+    /**
+     * Remove the metrics of the given module from the platform MBean server, e.g. after it got disabled
+     *
+     * @param module The module to unregister
+     */
+    public void unregister(Module<? extends Addon> module) {
+        Registration registration = this.registrations.get(module);
+        if (registration == null || registration.name == null) {
+            return;
+        }
+
+        try {
+            // Only remove the metrics of this module
+            if (this.published.remove(registration.name, registration.metrics) && this.server.isRegistered(registration.name)) {
+                this.server.unregisterMBean(registration.name);
+            }
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Create a unique MBean name for the given module.
+     * Multiple modules of the same class in one addon are distinguished by their index.
+     *
+     * @param module The module to create the name for
+     * @return The MBean name or null if the name is invalid
+     */
+    private ObjectName createName(Module<? extends Addon> module) {
+        Addon addon = module.getAddon();
+
+        // Count the previously loaded modules of the same class
+        int index = 0;
+        for (Module<? extends Addon> other : addon.getModules()) {
+            if (other != module && other.getClass() == module.getClass()) {
+                index++;
+            }
+        }
+
+        try {
+            return new ObjectName(DOMAIN + ":type=Module"
+                    + ",addon=" + ObjectName.quote(addon.getDisplayName())
+                    + ",name=" + ObjectName.quote(module.getClass().getSimpleName())
+                    + ",index=" + index);
+        } catch (Exception e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * Published metrics of a module
+     */
+    private static class Registration {
+        private final ModuleMetrics metrics;
+        private final ObjectName name;
+
+        private Registration(ModuleMetrics metrics, ObjectName name) {
+            this.metrics = metrics;
+            this.name = name;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package de.labystudio.desktopmodules.core.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tick and render metrics of a single module
+ *
+ * @author LabyStudio
+ */
+public class ModuleMetrics implements ModuleMetricsMBean {
+
+    private final LatencyHistogram tickTime = new LatencyHistogram();
+    private final LatencyHistogram renderTime = new LatencyHistogram();
+
+    private final AtomicLong framesProduced = new AtomicLong();
+    private final AtomicLong framesSkipped = new AtomicLong();
+    private final AtomicLong exceptions = new AtomicLong();
+
+    /**
+     * Record the duration of a tick
+     *
+     * @param nanos Tick duration in nanoseconds
+     */
+    public void recordTick(long nanos) {
+        this.tickTime.record(nanos);
+    }
+
+    /**
+     * Record the duration of a produced frame
+     *
+     * @param nanos Render duration in nanoseconds
+     */
+    public void recordRender(long nanos) {
+        this.renderTime.record(nanos);
+    }
+
+    /**
+     * Record a frame that was presented
+     */
+    public void recordProducedFrame() {
+        this.framesProduced.incrementAndGet();
+    }
+
+    /**
+     * Record a frame request that was skipped because nothing changed
+     */
+    public void recordSkippedFrame() {
+        this.framesSkipped.incrementAndGet();
+    }
+
+    /**
+     * Record an exception during a tick or a render call
+     */
+    public void recordException() {
+        this.exceptions.incrementAndGet();
+    }
+
+    @Override
+    public long getTickCount() {
+        return this.tickTime.getCount();
+    }
+
+    @Override
+    public long getTickMeanMicros() {
+        return toMicros(this.tickTime.getMean());
+    }
+
+    @Override
+    public long getTickP50Micros() {
+        return toMicros(this.tickTime.getValueAtPercentile(50));
+    }
+
+    @Override
+    public long getTickP99Micros() {
+        return toMicros(this.tickTime.getValueAtPercentile(99));
+    }
+
+    @Override
+    public long getTickMaxMicros() {
+        return toMicros(this.tickTime.getMax());
+    }
+
+    @Override
+    public long getRenderCount() {
+        return this.renderTime.getCount();
+    }
+
+    @Override
+    public long getRenderMeanMicros() {
+        return toMicros(this.renderTime.getMean());
+    }
+
+    @Override
+    public long getRenderP50Micros() {
+        return toMicros(this.renderTime.getValueAtPercentile(50));
+    }
+
+    @Override
+    public long getRenderP99Micros() {
+        return toMicros(this.renderTime.getValueAtPercentile(99));
+    }
+
+    @Override
+    public long getRenderMaxMicros() {
+        return toMicros(this.renderTime.getMax());
+    }
+
+    @Override
+    public long getFramesProduced() {
+        return this.framesProduced.get();
+    }
+
+    @Override
+    public long getFramesSkipped() {
+        return this.framesSkipped.get();
+    }
+
+    @Override
+    public long getExceptions() {
+        return this.exceptions.get();
+    }
+
+    @Override
+    public void reset() {
+        this.tickTime.reset();
+        this.renderTime.reset();
+        this.framesProduced.set(0);
+        this.framesSkipped.set(0);
+        this.exceptions.set(0);
+    }
+
+    private static long toMicros(long nanos) {
+        return TimeUnit.NANOSECONDS.toMicros(nanos);
+    }
+}
@@ -0,0 +1,40 @@
+package de.labystudio.desktopmodules.core.metrics;
+
+/**
+ * JMX interface of the module metrics. All durations are in microseconds.
+ *
+ * @author LabyStudio
+ */
+public interface ModuleMetricsMBean {
+
+    long getTickCount();
+
+    long getTickMeanMicros();
+
+    long getTickP50Micros();
+
+    long getTickP99Micros();
+
+    long getTickMaxMicros();
+
+    long getRenderCount();
+
+    long getRenderMeanMicros();
+
+    long getRenderP50Micros();
+
+    long getRenderP99Micros();
+
+    long getRenderMaxMicros();
+
+    long getFramesProduced();
+
+    long getFramesSkipped();
+
+    long getExceptions();
+
+    /**
+     * Clear all recorded values
+     */
+    void reset();
+}
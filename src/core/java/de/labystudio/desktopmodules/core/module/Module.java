@@ -1,22 +1,43 @@
 package de.labystudio.desktopmodules.core.module;
 
 import com.google.gson.JsonObject;
+import de.labystudio.desktopmodules.core.DesktopModules;
 import de.labystudio.desktopmodules.core.addon.Addon;
 import de.labystudio.desktopmodules.core.loader.TextureLoader;
+import de.labystudio.desktopmodules.core.metrics.ModuleMetrics;
+import de.labystudio.desktopmodules.core.module.animation.Tween;
 import de.labystudio.desktopmodules.core.module.render.IModuleRenderer;
 import de.labystudio.desktopmodules.core.module.render.IRenderCallback;
 import de.labystudio.desktopmodules.core.renderer.IRenderContext;
 import de.labystudio.desktopmodules.core.renderer.IScreenBounds;
 import de.labystudio.desktopmodules.core.renderer.font.Font;
 import de.labystudio.desktopmodules.core.renderer.font.FontStyle;
+import de.labystudio.desktopmodules.core.renderer.headless.HeadlessModuleRenderer;
+import de.labystudio.desktopmodules.core.renderer.layer.ILayerRenderer;
+import de.labystudio.desktopmodules.core.renderer.layer.RenderLayer;
+import de.labystudio.desktopmodules.core.renderer.overlay.OverlayCompositor;
+import de.labystudio.desktopmodules.core.renderer.overlay.OverlayModuleRenderer;
 import de.labystudio.desktopmodules.core.renderer.swing.SwingModuleRenderer;
 import de.labystudio.desktopmodules.core.renderer.swing.SwingScreenBounds;
+import de.labystudio.desktopmodules.core.scheduler.FrameMode;
+import de.labystudio.desktopmodules.core.scheduler.TickScheduler;
+import de.labystudio.desktopmodules.core.task.AsyncTask;
 
 import java.awt.MouseInfo;
 import java.awt.Point;
 import java.awt.image.BufferedImage;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 
 /**
+ * Base class of all modules.
+ * <p>
+ * The ticks, the render callbacks and the results of async tasks are called on the tick thread,
+ * the mouse callbacks are called on the event dispatch thread. Fields that are written by a mouse callback
+ * and read by a tick or render callback have to be volatile or synchronized, like the drag state of the module.
+ *
  * @author LabyStudio
  */
 public abstract class Module<T extends Addon> implements IRenderCallback {
@@ -42,35 +63,75 @@ public abstract class Module<T extends Addon> implements IRenderCallback {
     protected T addon;
 
     /**
-     * Last clicked mouse x position relative to the module position
+     * Last clicked mouse x position relative to the module position, only used on the event dispatch thread
      */
     private int lastMouseClickOffsetX;
 
     /**
-     * Last clicked mouse y position relative to the module position
+     * Last clicked mouse y position relative to the module position, only used on the event dispatch thread
      */
     private int lastMouseClickOffsetY;
 
     /**
      * Module mouse dragging state
      */
-    private boolean dragging = false;
+    private volatile boolean dragging = false;
 
     /**
      * Module enabled/visible
      */
-    private boolean enabled;
+    private volatile boolean enabled;
 
     /**
      * Module is on the right side of the target monitor
      */
-    protected boolean rightBound;
+    protected volatile boolean rightBound;
 
     /**
      * The icon of the module
      */
     private BufferedImage icon;
 
+    /**
+     * Tick and render metrics of this module
+     */
+    private ModuleMetrics metrics = new ModuleMetrics();
+
+    /**
+     * Time between two ticks of this module in milliseconds
+     */
+    private volatile long tickInterval = 1000 / DesktopModules.TICKS_PER_SECOND;
+
+    /**
+     * Maximum time a tick of this module is allowed to take in milliseconds (0 for the scheduler default)
+     */
+    private volatile long tickBudget;
+
+    /**
+     * Invalidate the module after each tick
+     */
+    private volatile boolean autoInvalidate = true;
+
+    /**
+     * Frames per second of this module (0 for the frame rate of the scheduler)
+     */
+    private volatile int frameRate;
+
+    /**
+     * When the module is rendered
+     */
+    private volatile FrameMode frameMode = FrameMode.ON_CHANGE;
+
+    /**
+     * Cached layers with the size of the module
+     */
+    private final List<RenderLayer> layers = new CopyOnWriteArrayList<>();
+
+    /**
+     * Animated values that are captured before each tick
+     */
+    private final List<Tween> tweens = new CopyOnWriteArrayList<>();
+
     /**
      * Create module width fixed size
      *
@@ -92,8 +153,11 @@ public abstract class Module<T extends Addon> implements IRenderCallback {
         this.addon = addon;
         this.config = config;
 
-        this.icon = addon.getDesktopModules().getTextureLoader().load(getIconPath());
+        this.icon = addon.getTextureLoader().loadSprite(getIconPath());
+        this.metrics = addon.getDesktopModules().getMetricsRegistry().register(this);
+
         this.moduleRenderer = createRenderer();
+        this.moduleRenderer.setMetrics(this.metrics);
     }
 
     /**
@@ -136,8 +200,13 @@ public abstract class Module<T extends Addon> implements IRenderCallback {
         this.moduleRenderer.setVisible(this.enabled = (!config.has("enabled") || config.get("enabled").getAsBoolean()));
 
         // Get target screen bounds
-        Point mouseLocation = MouseInfo.getPointerInfo().getLocation();
-        IScreenBounds bounds = new SwingScreenBounds(mouseLocation.x, mouseLocation.y);
+        IScreenBounds bounds;
+        if (this.addon.getDesktopModules().isHeadless()) {
+            bounds = this.moduleRenderer.getScreenBoundsOfTargetMonitor();
+        } else {
+            Point mouseLocation = MouseInfo.getPointerInfo().getLocation();
+            bounds = new SwingScreenBounds(mouseLocation.x, mouseLocation.y);
+        }
 
         // Get center location of the target monitor for the default module position
         int centerX = bounds.getMinX() + (bounds.getMaxX() - bounds.getMinX()) / 2;
@@ -171,6 +240,14 @@ public abstract class Module<T extends Addon> implements IRenderCallback {
             this.enabled = enabled;
             this.moduleRenderer.setVisible(enabled);
 
+            // Schedule the module, re-enabling a module releases it from the quarantine
+            TickScheduler tickScheduler = this.addon.getDesktopModules().getTickScheduler();
+            if (enabled) {
+                tickScheduler.release(this);
+            } else {
+                tickScheduler.wakeUp();
+            }
+
             // Save the change
             onSaveConfig(this.config);
             this.addon.saveConfig();
@@ -194,6 +271,12 @@ public abstract class Module<T extends Addon> implements IRenderCallback {
 
         // Update renderer size
         this.moduleRenderer.setSize(width, height);
+
+        // Resize and render the cached layers again
+        for (RenderLayer layer : this.layers) {
+            layer.setSize(width, height);
+        }
+        invalidate();
     }
 
     /**
@@ -202,7 +285,13 @@ public abstract class Module<T extends Addon> implements IRenderCallback {
      */
     private void updateRightBoundState() {
         IScreenBounds targetBounds = this.moduleRenderer.getScreenBoundsOfTargetMonitor();
-        this.rightBound = this.moduleRenderer.getX() + this.width / 2 - targetBounds.getMinX() > (targetBounds.getMaxX() - targetBounds.getMinX()) / 2;
+        boolean rightBound = this.moduleRenderer.getX() + this.width / 2 - targetBounds.getMinX() > (targetBounds.getMaxX() - targetBounds.getMinX()) / 2;
+
+        // The layout of the cached layers depends on the side
+        if (rightBound != this.rightBound) {
+            this.rightBound = rightBound;
+            invalidateLayers();
+        }
     }
 
     @Override
@@ -235,6 +324,7 @@ public abstract class Module<T extends Addon> implements IRenderCallback {
             this.moduleRenderer.setLocation(moduleX, moduleY);
 
             updateRightBoundState();
+            invalidate();
         }
     }
 
@@ -244,7 +334,19 @@ public abstract class Module<T extends Addon> implements IRenderCallback {
      * @return The created implementation for the model render interface
      */
     protected IModuleRenderer createRenderer() {
-        return new SwingModuleRenderer(this, this.width, this.height);
+        DesktopModules desktopModules = this.addon.getDesktopModules();
+        boolean softwareRendering = desktopModules.isSoftwareRendering();
+        if (desktopModules.isHeadless()) {
+            return new HeadlessModuleRenderer(this, this.width, this.height, softwareRendering);
+        }
+
+        // Draw on the shared overlay windows instead of an own window
+        OverlayCompositor compositor = desktopModules.getOverlayCompositor();
+        if (compositor != null) {
+            return new OverlayModuleRenderer(compositor, this, this.width, this.height, softwareRendering);
+        }
+        return new SwingModuleRenderer(this, this.width, this.height, softwareRendering,
+                desktopModules.getFrameDispatcher(), desktopModules.getZOrderKeeper());
     }
 
     /**
@@ -254,6 +356,219 @@ public abstract class Module<T extends Addon> implements IRenderCallback {
         // No implementation
     }
 
+    /**
+     * Get the time between two ticks of this module
+     *
+     * @return Tick interval in milliseconds
+     */
+    public long getTickInterval() {
+        return this.tickInterval;
+    }
+
+    /**
+     * Change the time between two ticks of this module.
+     * The default interval is based on {@link DesktopModules#TICKS_PER_SECOND}
+     *
+     * @param tickInterval Tick interval in milliseconds
+     */
+    public void setTickInterval(long tickInterval) {
+        if (tickInterval <= 0) {
+            throw new IllegalArgumentException("Tick interval must be positive");
+        }
+
+        this.tickInterval = tickInterval;
+
+        // Reschedule the module
+        if (this.addon != null) {
+            this.addon.getDesktopModules().getTickScheduler().wakeUp();
+        }
+    }
+
+    /**
+     * Get the maximum time a tick of this module is allowed to take
+     *
+     * @return Tick budget in milliseconds or 0 for the default budget of the scheduler
+     */
+    public long getTickBudget() {
+        return this.tickBudget;
+    }
+
+    /**
+     * Change the maximum time a tick of this module is allowed to take.
+     * In parallel tick mode the frame of the module will be skipped if the tick exceeds this budget.
+     *
+     * @param tickBudget Tick budget in milliseconds or 0 for the default budget of the scheduler
+     */
+    public void setTickBudget(long tickBudget) {
+        if (tickBudget < 0) {
+            throw new IllegalArgumentException("Tick budget can't be negative");
+        }
+
+        this.tickBudget = tickBudget;
+    }
+
+    /**
+     * Mark the module as changed. A new frame will be rendered on the next tick.
+     * Only necessary if the auto invalidation is disabled.
+     */
+    public void invalidate() {
+        if (this.moduleRenderer != null) {
+            this.moduleRenderer.invalidateFrame();
+            scheduleFrame();
+        }
+    }
+
+    /**
+     * Mark a region of the module as changed. Only this region will be repainted on the next tick.
+     * Only necessary if the auto invalidation is disabled.
+     *
+     * @param x      Left edge of the region relative to the module position
+     * @param y      Top edge of the region relative to the module position
+     * @param width  Width of the region
+     * @param height Height of the region
+     */
+    public void invalidate(int x, int y, int width, int height) {
+        if (this.moduleRenderer != null) {
+            this.moduleRenderer.invalidateFrame(x, y, width, height);
+            scheduleFrame();
+        }
+    }
+
+    /**
+     * Wake up the scheduler to render the invalidated frame
+     */
+    @Override
+    public void scheduleFrame() {
+        if (this.addon != null) {
+            this.addon.getDesktopModules().getTickScheduler().wakeUp();
+        }
+    }
+
+    /**
+     * Create a cached layer with the size of the module.
+     * The layer and the module are rendered again after a call of {@link RenderLayer#invalidate()},
+     * when the module gets resized or when it changes the side of the monitor.
+     *
+     * @param renderer Callback to render the content of the layer
+     * @return The created layer to draw using {@link IRenderContext#drawLayer(RenderLayer, double, double)}
+     */
+    protected RenderLayer createLayer(ILayerRenderer renderer) {
+        RenderLayer layer = new RenderLayer(renderer, this.width, this.height, this::invalidate);
+        this.layers.add(layer);
+        return layer;
+    }
+
+    /**
+     * Create an animated value that is changed on the tick and interpolated on each frame.
+     * Render the value using {@link Tween#get(float)} with the partial ticks of the render callback.
+     *
+     * @param value Initial value
+     * @return The created tween
+     */
+    protected Tween createTween(double value) {
+        Tween tween = new Tween(value);
+        this.tweens.add(tween);
+        return tween;
+    }
+
+    /**
+     * Capture the state of all animated values at the tick boundary.
+     * Called by the tick scheduler before each tick.
+     */
+    public void captureTweens() {
+        for (Tween tween : this.tweens) {
+            tween.capture();
+        }
+    }
+
+    /**
+     * Render all cached layers of the module again on the next frame
+     */
+    public void invalidateLayers() {
+        for (RenderLayer layer : this.layers) {
+            layer.invalidate();
+        }
+        invalidate();
+    }
+
+    /**
+     * Is the module invalidated after each tick
+     *
+     * @return Auto invalidation enabled
+     */
+    public boolean isAutoInvalidate() {
+        return this.autoInvalidate;
+    }
+
+    /**
+     * Change the auto invalidation of the module.
+     * If disabled, the module will only be repainted after calling {@link Module#invalidate()}
+     * or on mouse hover, drag and size changes.
+     *
+     * @param autoInvalidate Invalidate the module after each tick
+     */
+    public void setAutoInvalidate(boolean autoInvalidate) {
+        this.autoInvalidate = autoInvalidate;
+    }
+
+    /**
+     * Get the frames per second of this module
+     *
+     * @return Frame rate or 0 for the frame rate of the scheduler
+     */
+    public int getFrameRate() {
+        return this.frameRate;
+    }
+
+    /**
+     * Change the frames per second of this module independent of its tick interval.
+     * The default frame rate is based on {@link DesktopModules#FRAMES_PER_SECOND}
+     *
+     * @param frameRate Frame rate or 0 for the frame rate of the scheduler
+     */
+    public void setFrameRate(int frameRate) {
+        if (frameRate < 0) {
+            throw new IllegalArgumentException("Frame rate can't be negative");
+        }
+
+        this.frameRate = frameRate;
+        scheduleFrame();
+    }
+
+    /**
+     * Get when the module is rendered
+     *
+     * @return The frame mode
+     */
+    public FrameMode getFrameMode() {
+        return this.frameMode;
+    }
+
+    /**
+     * Change when the module is rendered.
+     * Use {@link FrameMode#CONTINUOUS} to render animations with the frame rate of the module
+     * without increasing its tick rate.
+     *
+     * @param frameMode The frame mode
+     */
+    public void setFrameMode(FrameMode frameMode) {
+        this.frameMode = frameMode;
+        scheduleFrame();
+    }
+
+    /**
+     * Execute blocking work like network or file access asynchronously instead of blocking the tick thread.
+     * The result is delivered on the tick thread and the task is cancelled when the module gets disabled.
+     *
+     * @param task     The work to execute in the background
+     * @param callback The callback that receives the result on the tick thread
+     * @param <V>      Result type of the task
+     * @return Handle to cancel the task, it is already done if the task queue of the addon is full
+     */
+    protected <V> AsyncTask<V> runAsync(Callable<V> task, Consumer<V> callback) {
+        return this.addon.getDesktopModules().getTaskService().submit(this.addon, this, task, callback);
+    }
+
     /**
      * Load all texture of this module
      *
@@ -321,6 +636,16 @@ public abstract class Module<T extends Addon> implements IRenderCallback {
     @Override
     public void onRender(IRenderContext context, int width, int height, int mouseX, int mouseY) {
         // Implementation in Module class will be removed in future versions
+        onRender(context, width, height);
+    }
+
+    @Override
+    public float getPartialTicks() {
+        return this.addon == null ? 0 : this.addon.getDesktopModules().getTickScheduler().getPartialTicks(this);
+    }
+
+    public ModuleMetrics getMetrics() {
+        return this.metrics;
     }
 
     public BufferedImage getIcon() {
@@ -0,0 +1,45 @@
+package de.labystudio.desktopmodules.core.module.animation;
+
+/**
+ * Easing functions of a {@link Tween}
+ *
+ * @author LabyStudio
+ */
+public enum Easing {
+
+    LINEAR {
+        @Override
+        public double apply(double progress) {
+            return progress;
+        }
+    },
+
+    EASE_IN {
+        @Override
+        public double apply(double progress) {
+            return progress * progress;
+        }
+    },
+
+    EASE_OUT {
+        @Override
+        public double apply(double progress) {
+            return 1 - (1 - progress) * (1 - progress);
+        }
+    },
+
+    EASE_IN_OUT {
+        @Override
+        public double apply(double progress) {
+            return progress * progress * (3 - 2 * progress);
+        }
+    };
+
+    /**
+     * Map the linear progress of the animation
+     *
+     * @param progress Linear progress from 0.0 to 1.0
+     * @return Eased progress from 0.0 to 1.0
+     */
+    public abstract double apply(double progress);
+}
@@ -0,0 +1,120 @@
+package de.labystudio.desktopmodules.core.module.animation;
+
+/**
+ * Numeric module state that is changed on the tick and interpolated on each frame.
+ * The state is captured at each tick boundary, so a frame between two ticks can render
+ * the value using the partial ticks of the render callback.
+ * <p>
+ * Create a tween using {@link de.labystudio.desktopmodules.core.module.Module#createTween(double)}
+ * so that it is captured before each tick of the module.
+ *
+ * @author LabyStudio
+ */
+public class Tween {
+
+    private double from;
+    private double to;
+
+    /**
+     * Captured ticks since the animation started
+     */
+    private int elapsed;
+
+    /**
+     * Length of the animation in ticks
+     */
+    private int duration;
+
+    private Easing easing = Easing.LINEAR;
+
+    /**
+     * Create a tween with the given value
+     *
+     * @param value Initial value
+     */
+    public Tween(double value) {
+        this.from = value;
+        this.to = value;
+    }
+
+    /**
+     * Change the value on the tick. The frames until the next tick interpolate to the new value.
+     *
+     * @param value The new value
+     */
+    public void set(double value) {
+        animateTo(value, 1, Easing.LINEAR);
+    }
+
+    /**
+     * Animate from the current value to the given value over multiple ticks
+     *
+     * @param value  Target value
+     * @param ticks  Length of the animation in ticks
+     * @param easing Easing of the animation
+     */
+    public synchronized void animateTo(double value, int ticks, Easing easing) {
+        if (ticks <= 0) {
+            throw new IllegalArgumentException("Animation length must be positive");
+        }
+
+        this.from = get(0);
+        this.to = value;
+        this.elapsed = 0;
+        this.duration = ticks;
+        this.easing = easing;
+    }
+
+    /**
+     * Change the value immediately without interpolation
+     *
+     * @param value The new value
+     */
+    public synchronized void jump(double value) {
+        this.from = value;
+        this.to = value;
+        this.duration = 0;
+    }
+
+    /**
+     * Capture the state at the tick boundary
+     */
+    public synchronized void capture() {
+        if (this.elapsed < this.duration) {
+            this.elapsed++;
+        }
+    }
+
+    /**
+     * Get the interpolated value of a frame
+     *
+     * @param partialTicks Progress from 0.0 to 1.0 since the last tick
+     * @return The interpolated value
+     */
+    public synchronized double get(float partialTicks) {
+        if (this.elapsed >= this.duration) {
+            return this.to;
+        }
+
+        double progress = Math.min(1, (this.elapsed + partialTicks) / this.duration);
+        return this.from + (this.to - this.from) * this.easing.apply(progress);
+    }
+
+    /**
+     * Get the value after the animation finished
+     *
+     * @return The target value
+     */
+    public synchronized double getTarget() {
+        return this.to;
+    }
+
+    /**
+     * Is the animation still running
+     *
+     * @return The value is not at its target yet
+     */
+    public synchronized boolean isAnimating() {
+        return this.elapsed < this.duration;
+    }
+}
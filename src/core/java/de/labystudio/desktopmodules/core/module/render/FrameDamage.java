@@ -0,0 +1,78 @@
+package de.labystudio.desktopmodules.core.module.render;
+
+import java.awt.Rectangle;
+
+/**
+ * Tracks the damaged region of a module frame.
+ * All damaged rectangles until the next frame are merged into their bounding box.
+ *
+ * @author LabyStudio
+ */
+public class FrameDamage {
+
+    private volatile boolean invalid = true;
+
+    /**
+     * Damaged region or null if the entire frame is damaged
+     */
+    private Rectangle region;
+
+    /**
+     * Mark the entire frame as damaged
+     */
+    public synchronized void invalidate() {
+        this.invalid = true;
+        this.region = null;
+    }
+
+    /**
+     * Mark the given region of the frame as damaged
+     *
+     * @param x      Left edge of the region relative to the module position
+     * @param y      Top edge of the region relative to the module position
+     * @param width  Width of the region
+     * @param height Height of the region
+     */
+    public synchronized void invalidate(int x, int y, int width, int height) {
+        if (width <= 0 || height <= 0) {
+            return;
+        }
+
+        if (!this.invalid) {
+            this.invalid = true;
+            this.region = new Rectangle(x, y, width, height);
+        } else if (this.region != null) {
+            this.region.add(new Rectangle(x, y, width, height));
+        }
+    }
+
+    /**
+     * Is any region of the frame damaged
+     *
+     * @return Frame has been invalidated since the last frame
+     */
+    public boolean isInvalid() {
+        return this.invalid;
+    }
+
+    /**
+     * Get and reset the damaged region
+     *
+     * @param width  Width of the frame
+     * @param height Height of the frame
+     * @return Damaged region within the frame bounds or null if nothing is damaged
+     */
+    public synchronized Rectangle take(int width, int height) {
+        if (!this.invalid) {
+            return null;
+        }
+
+        Rectangle bounds = new Rectangle(0, 0, width, height);
+        Rectangle region = this.region == null ? bounds : this.region.intersection(bounds);
+
+        this.invalid = false;
+        this.region = null;
+
+        return region.isEmpty() ? null : region;
+    }
+}
@@ -1,5 +1,6 @@
 package de.labystudio.desktopmodules.core.module.render;
 
+import de.labystudio.desktopmodules.core.metrics.ModuleMetrics;
 import de.labystudio.desktopmodules.core.renderer.IScreenBounds;
 
 /**
@@ -10,10 +11,49 @@ import de.labystudio.desktopmodules.core.renderer.IScreenBounds;
 public interface IModuleRenderer {
 
     /**
-     * Request a new render frame
+     * Request a new render frame that is presented even if it is identical to the current frame
      */
     void requestFrame();
 
+    /**
+     * Request a new render frame that only repaints the given region and is presented even if it is identical
+     *
+     * @param x      Left edge of the region relative to the module position
+     * @param y      Top edge of the region relative to the module position
+     * @param width  Width of the region
+     * @param height Height of the region
+     */
+    void requestFrame(int x, int y, int width, int height);
+
+    /**
+     * Mark the current frame as outdated.
+     * The next call of {@link IModuleRenderer#updateFrame()} will produce a new frame.
+     */
+    void invalidateFrame();
+
+    /**
+     * Mark a region of the current frame as outdated.
+     * The next call of {@link IModuleRenderer#updateFrame()} will only repaint the damaged regions.
+     *
+     * @param x      Left edge of the region relative to the module position
+     * @param y      Top edge of the region relative to the module position
+     * @param width  Width of the region
+     * @param height Height of the region
+     */
+    void invalidateFrame(int x, int y, int width, int height);
+
+    /**
+     * Is the current frame outdated
+     *
+     * @return Frame has been invalidated since the last frame
+     */
+    boolean isFrameInvalid();
+
+    /**
+     * Request a new render frame only if the current frame has been invalidated
+     */
+    void updateFrame();
+
     /**
      * Change the visibility of the window
      *
@@ -86,4 +126,11 @@ public interface IModuleRenderer {
      * @param height Height of the renderer
      */
     void setSize(int width, int height);
+
+    /**
+     * Set the metrics to record the render time and the produced and skipped frames
+     *
+     * @param metrics Metrics of the module
+     */
+    void setMetrics(ModuleMetrics metrics);
 }
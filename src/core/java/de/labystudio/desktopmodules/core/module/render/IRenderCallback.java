@@ -3,7 +3,14 @@ package de.labystudio.desktopmodules.core.module.render;
 import de.labystudio.desktopmodules.core.renderer.IRenderContext;
 
 /**
- * Callback from the module renderer for each render tick
+ * Callback from the module renderer for each render tick.
+ * <p>
+ * The render calls are recorded on the tick thread by the frame scheduler, not on the event dispatch thread.
+ * The recorded frame is drawn later on the event dispatch thread, so the render callbacks must not depend
+ * on state that is only valid while painting.
+ * <p>
+ * The mouse callbacks are called on the event dispatch thread. State that is shared between the mouse callbacks
+ * and the render callbacks has to be volatile or synchronized.
  *
  * @author LabyStudio
  */
@@ -20,6 +27,40 @@ public interface IRenderCallback {
      */
     void onRender(IRenderContext context, int width, int height, int mouseX, int mouseY);
 
+    /**
+     * Module render callback with the progress since the last tick.
+     * The module state only changes on the tick, so frames between two ticks can interpolate it.
+     * This is the only render callback that is called by the module renderers,
+     * it calls {@link IRenderCallback#onRender(IRenderContext, int, int, int, int)} by default.
+     *
+     * @param context      Render context of the module renderer
+     * @param width        Module width
+     * @param height       Module height
+     * @param mouseX       Mouse x position relative to the module location
+     * @param mouseY       Mouse y position relative to the module location
+     * @param partialTicks Progress from 0.0 to 1.0 since the last tick
+     */
+    default void onRender(IRenderContext context, int width, int height, int mouseX, int mouseY, float partialTicks) {
+        onRender(context, width, height, mouseX, mouseY);
+    }
+
+    /**
+     * Schedule a new frame after the module renderer got invalidated, e.g. by a mouse event.
+     * The frame is rendered by the frame scheduler of the module and not by the caller.
+     */
+    default void scheduleFrame() {
+        // No implementation
+    }
+
+    /**
+     * Get the progress since the last tick of the module
+     *
+     * @return Progress from 0.0 to 1.0 until the next tick
+     */
+    default float getPartialTicks() {
+        return 0;
+    }
+
     /**
      * Module render callback.
      *
@@ -3,8 +3,10 @@ package de.labystudio.desktopmodules.core.renderer;
 import de.labystudio.desktopmodules.core.renderer.font.Font;
 import de.labystudio.desktopmodules.core.renderer.font.StringAlignment;
 import de.labystudio.desktopmodules.core.renderer.font.StringEffect;
+import de.labystudio.desktopmodules.core.renderer.layer.RenderLayer;
 
 import java.awt.Color;
+import java.awt.Rectangle;
 import java.awt.image.BufferedImage;
 
 /**
@@ -122,6 +124,24 @@ public interface IRenderContext {
      */
     void drawImage(BufferedImage image, double x, double y, double width, double height);
 
+    /**
+     * Composite a cached static layer at the given position.
+     * The content of the layer is only rendered again after it was invalidated.
+     *
+     * @param layer The layer to draw
+     * @param x     X position relative to the module position
+     * @param y     Y position relative to the module position
+     */
+    void drawLayer(RenderLayer layer, double x, double y);
+
+    /**
+     * Get the region of the module that is repainted in the current frame.
+     * Render calls outside of this region have no effect and can be skipped.
+     *
+     * @return Clip bounds relative to the current transformation, the entire module bounds if the entire module is repainted
+     */
+    Rectangle getClipBounds();
+
     /**
      * Translate render context by given offset
      *
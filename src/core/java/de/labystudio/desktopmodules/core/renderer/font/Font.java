@@ -35,4 +35,25 @@ public class Font {
     public String getFontFamily() {
         return fontFamily;
     }
+
+    @Override
+    public boolean equals(Object object) {
+        if (this == object) {
+            return true;
+        }
+        if (!(object instanceof Font)) {
+            return false;
+        }
+
+        Font font = (Font) object;
+        return this.size == font.size && this.style == font.style && this.fontFamily.equals(font.fontFamily);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = this.fontFamily.hashCode();
+        result = 31 * result + this.style.hashCode();
+        result = 31 * result + this.size;
+        return result;
+    }
 }
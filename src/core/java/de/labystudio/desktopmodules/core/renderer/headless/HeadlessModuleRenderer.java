@@ -0,0 +1,254 @@
+package de.labystudio.desktopmodules.core.renderer.headless;
+
+import de.labystudio.desktopmodules.core.metrics.ModuleMetrics;
+import de.labystudio.desktopmodules.core.module.render.FrameDamage;
+import de.labystudio.desktopmodules.core.module.render.IModuleRenderer;
+import de.labystudio.desktopmodules.core.module.render.IRenderCallback;
+import de.labystudio.desktopmodules.core.renderer.IRenderContext;
+import de.labystudio.desktopmodules.core.renderer.IScreenBounds;
+import de.labystudio.desktopmodules.core.renderer.raster.RasterRenderContext;
+import de.labystudio.desktopmodules.core.renderer.swing.SwingRenderContext;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+
+/**
+ * Offscreen implementation of the module renderer that doesn't require a display.
+ * Each frame is rendered into a buffered image by the frame scheduler.
+ *
+ * @author LabyStudio
+ */
+public class HeadlessModuleRenderer implements IModuleRenderer {
+
+    private static final IScreenBounds SCREEN_BOUNDS = new HeadlessScreenBounds();
+
+    private final IRenderCallback renderCallback;
+    private final SwingRenderContext renderContext = new SwingRenderContext();
+
+    /**
+     * Software rasterizer or null to render using Java2D
+     */
+    private final RasterRenderContext rasterContext;
+
+    private BufferedImage image;
+
+    private int x;
+    private int y;
+
+    private boolean visible;
+    private final FrameDamage frameDamage = new FrameDamage();
+
+    private long frameCount;
+
+    private ModuleMetrics metrics = new ModuleMetrics();
+
+    /**
+     * Create new headless module renderer
+     *
+     * @param renderCallback Render callback
+     * @param width          Module width
+     * @param height         Module height
+     */
+    public HeadlessModuleRenderer(IRenderCallback renderCallback, int width, int height) {
+        this(renderCallback, width, height, false);
+    }
+
+    /**
+     * Create new headless module renderer
+     *
+     * @param renderCallback    Render callback
+     * @param width             Module width
+     * @param height            Module height
+     * @param softwareRendering Rasterize the frames in software instead of using Java2D
+     */
+    public HeadlessModuleRenderer(IRenderCallback renderCallback, int width, int height, boolean softwareRendering) {
+        this.renderCallback = renderCallback;
+        this.rasterContext = softwareRendering ? new RasterRenderContext() : null;
+        this.image = createImage(width, height);
+    }
+
+    @Override
+    public void requestFrame() {
+        invalidateFrame();
+        this.renderCallback.scheduleFrame();
+    }
+
+    @Override
+    public void requestFrame(int x, int y, int width, int height) {
+        invalidateFrame(x, y, width, height);
+        this.renderCallback.scheduleFrame();
+    }
+
+    @Override
+    public void invalidateFrame() {
+        this.frameDamage.invalidate();
+    }
+
+    @Override
+    public void invalidateFrame(int x, int y, int width, int height) {
+        this.frameDamage.invalidate(x, y, width, height);
+    }
+
+    @Override
+    public boolean isFrameInvalid() {
+        return this.frameDamage.isInvalid();
+    }
+
+    @Override
+    public synchronized void updateFrame() {
+        Rectangle clip = this.frameDamage.take(this.image.getWidth(), this.image.getHeight());
+        if (clip != null) {
+            render(clip);
+        } else {
+            this.metrics.recordSkippedFrame();
+        }
+    }
+
+    /**
+     * Render the damaged region of the module into the image
+     *
+     * @param clip The damaged region
+     */
+    private synchronized void render(Rectangle clip) {
+        // Rasterize directly into the pixels of the image
+        if (this.rasterContext != null) {
+            this.rasterContext.begin(this.image, clip);
+            try {
+                // Clear the previous frame
+                this.rasterContext.clear();
+
+                render(this.rasterContext);
+            } finally {
+                this.rasterContext.end();
+            }
+            return;
+        }
+
+        Graphics2D graphics = this.image.createGraphics();
+        try {
+            graphics.clip(clip);
+
+            // Clear the previous frame
+            graphics.setComposite(AlphaComposite.Clear);
+            graphics.fill(clip);
+            graphics.setComposite(AlphaComposite.SrcOver);
+
+            this.renderContext.updateGraphics(graphics);
+            render(this.renderContext);
+        } finally {
+            graphics.dispose();
+        }
+    }
+
+    /**
+     * Call the render callback with the given render context
+     *
+     * @param context The render context of the image
+     */
+    private void render(IRenderContext context) {
+        int width = this.image.getWidth();
+        int height = this.image.getHeight();
+
+        // Call render callback
+        long start = System.nanoTime();
+        try {
+            this.renderCallback.onRender(context, width, height, -1, -1, this.renderCallback.getPartialTicks());
+        } catch (Exception e) {
+            e.printStackTrace();
+            this.metrics.recordException();
+            return;
+        } finally {
+            this.metrics.recordRender(System.nanoTime() - start);
+        }
+
+        this.frameCount++;
+        this.metrics.recordProducedFrame();
+    }
+
+    /**
+     * Create the image of the frames
+     *
+     * @param width  Image width
+     * @param height Image height
+     * @return Image in the format of the render context
+     */
+    private BufferedImage createImage(int width, int height) {
+        return new BufferedImage(width, height, this.rasterContext != null ? BufferedImage.TYPE_INT_ARGB_PRE : BufferedImage.TYPE_INT_ARGB);
+    }
+
+    @Override
+    public void setVisible(boolean visible) {
+        this.visible = visible;
+    }
+
+    @Override
+    public int getX() {
+        return this.x;
+    }
+
+    @Override
+    public int getY() {
+        return this.y;
+    }
+
+    @Override
+    public int getWidth() {
+        return this.image.getWidth();
+    }
+
+    @Override
+    public int getHeight() {
+        return this.image.getHeight();
+    }
+
+    @Override
+    public void setLocation(int x, int y) {
+        this.x = x;
+        this.y = y;
+    }
+
+    @Override
+    public IScreenBounds getScreenBounds() {
+        return SCREEN_BOUNDS;
+    }
+
+    @Override
+    public IScreenBounds getScreenBoundsOfTargetMonitor() {
+        return SCREEN_BOUNDS;
+    }
+
+    @Override
+    public boolean isMouseOver() {
+        return false;
+    }
+
+    @Override
+    public synchronized void setSize(int width, int height) {
+        this.image = createImage(width, height);
+        invalidateFrame();
+    }
+
+    @Override
+    public void setMetrics(ModuleMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Get the last rendered frame
+     *
+     * @return Image of the last frame
+     */
+    public synchronized BufferedImage getImage() {
+        return this.image;
+    }
+
+    public boolean isVisible() {
+        return this.visible;
+    }
+
+    public long getFrameCount() {
+        return this.frameCount;
+    }
+}
@@ -0,0 +1,37 @@
+package de.labystudio.desktopmodules.core.renderer.headless;
+
+import de.labystudio.desktopmodules.core.renderer.IScreenBounds;
+
+/**
+ * Screen bounds of the virtual monitor in headless mode
+ *
+ * @author LabyStudio
+ */
+public class HeadlessScreenBounds implements IScreenBounds {
+
+    /**
+     * Size of the virtual monitor
+     */
+    public static final int WIDTH = 1920;
+    public static final int HEIGHT = 1080;
+
+    @Override
+    public int getMinX() {
+        return 0;
+    }
+
+    @Override
+    public int getMinY() {
+        return 0;
+    }
+
+    @Override
+    public int getMaxX() {
+        return WIDTH;
+    }
+
+    @Override
+    public int getMaxY() {
+        return HEIGHT;
+    }
+}
@@ -0,0 +1,20 @@
+package de.labystudio.desktopmodules.core.renderer.layer;
+
+import de.labystudio.desktopmodules.core.renderer.IRenderContext;
+
+/**
+ * Callback to render the content of a cached layer
+ *
+ * @author LabyStudio
+ */
+public interface ILayerRenderer {
+
+    /**
+     * Render the content of the layer. Only called after the layer was invalidated or its cache was lost.
+     *
+     * @param context Render context of the layer cache
+     * @param width   Layer width
+     * @param height  Layer height
+     */
+    void onRenderLayer(IRenderContext context, int width, int height);
+}
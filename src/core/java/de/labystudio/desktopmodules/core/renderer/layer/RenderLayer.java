@@ -0,0 +1,94 @@
+package de.labystudio.desktopmodules.core.renderer.layer;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A static layer that is rendered once into a cached image and composited on each frame.
+ * The layer has to be invalidated when its content changes.
+ *
+ * @author LabyStudio
+ */
+public class RenderLayer {
+
+    private final ILayerRenderer renderer;
+
+    /**
+     * Called after each invalidation to request a new frame of the owner or null
+     */
+    private final Runnable invalidationListener;
+
+    private volatile int width;
+    private volatile int height;
+
+    /**
+     * Content version of the layer, increased on each invalidation
+     */
+    private final AtomicInteger version = new AtomicInteger();
+
+    /**
+     * Create a layer with the given size
+     *
+     * @param renderer Callback to render the content of the layer
+     * @param width    Layer width
+     * @param height   Layer height
+     */
+    public RenderLayer(ILayerRenderer renderer, int width, int height) {
+        this(renderer, width, height, null);
+    }
+
+    /**
+     * Create a layer with the given size
+     *
+     * @param renderer             Callback to render the content of the layer
+     * @param width                Layer width
+     * @param height               Layer height
+     * @param invalidationListener Called after each invalidation, e.g. to invalidate the owning module
+     */
+    public RenderLayer(ILayerRenderer renderer, int width, int height, Runnable invalidationListener) {
+        this.renderer = renderer;
+        this.invalidationListener = invalidationListener;
+        this.width = width;
+        this.height = height;
+    }
+
+    /**
+     * Mark the content of the layer as changed. It will be rendered again on the next frame of the owner.
+     * Layers without an invalidation listener require the owner to be invalidated as well.
+     */
+    public void invalidate() {
+        this.version.incrementAndGet();
+
+        if (this.invalidationListener != null) {
+            this.invalidationListener.run();
+        }
+    }
+
+    /**
+     * Change the size of the layer and invalidate it
+     *
+     * @param width  New layer width
+     * @param height New layer height
+     */
+    public void setSize(int width, int height) {
+        this.width = width;
+        this.height = height;
+
+        invalidate();
+    }
+
+    public ILayerRenderer getRenderer() {
+        return this.renderer;
+    }
+
+    public int getWidth() {
+        return this.width;
+    }
+
+    public int getHeight() {
+        return this.height;
+    }
+
+    public int getVersion() {
+        return this.version.get();
+    }
+}
@@ -0,0 +1,397 @@
+package de.labystudio.desktopmodules.core.renderer.overlay;
+
+import de.labystudio.desktopmodules.core.renderer.swing.SwingFrameDispatcher;
+import de.labystudio.desktopmodules.core.renderer.swing.SwingZOrderKeeper;
+
+import java.awt.Graphics2D;
+import java.awt.GraphicsDevice;
+import java.awt.GraphicsEnvironment;
+import java.awt.Rectangle;
+import java.awt.geom.Area;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Composites all visible modules into one transparent overlay window per monitor
+ * instead of creating one window for each module.
+ * Mouse events of the overlay windows are routed to the module below the cursor.
+ * <p>
+ * The shape of each overlay window is limited to the bounds of the visible modules, so the desktop below
+ * stays usable just like with one window per module. Platforms without shaped windows
+ * can't use the overlay, see {@link #isSupported()}.
+ *
+ * @author LabyStudio
+ */
+public class OverlayCompositor {
+
+    /**
+     * Applies the operations of the overlay windows in one batch per frame
+     */
+    private final SwingFrameDispatcher frameDispatcher;
+
+    /**
+     * Keeps the overlay windows over the taskbar
+     */
+    private final SwingZOrderKeeper zOrderKeeper;
+
+    /**
+     * All visible module renderers, the last renderer is on top
+     */
+    private final List<OverlayModuleRenderer> renderers = new CopyOnWriteArrayList<>();
+
+    /**
+     * One overlay window for each monitor
+     */
+    private final List<OverlayWindow> windows = new ArrayList<>();
+
+    /**
+     * Module renderer that receives the mouse events until the mouse is released
+     */
+    private OverlayModuleRenderer pressedRenderer;
+
+    /**
+     * Module renderer below the mouse cursor
+     */
+    private OverlayModuleRenderer hoveredRenderer;
+
+    /**
+     * Create an overlay compositor with its own frame dispatcher
+     */
+    public OverlayCompositor() {
+        this(new SwingFrameDispatcher());
+    }
+
+    /**
+     * Create an overlay compositor
+     *
+     * @param frameDispatcher Applies the operations of the overlay windows in one batch per frame
+     */
+    public OverlayCompositor(SwingFrameDispatcher frameDispatcher) {
+        this(frameDispatcher, new SwingZOrderKeeper(frameDispatcher));
+    }
+
+    /**
+     * Create an overlay compositor
+     *
+     * @param frameDispatcher Applies the operations of the overlay windows in one batch per frame
+     * @param zOrderKeeper    Keeps the overlay windows over the taskbar
+     */
+    public OverlayCompositor(SwingFrameDispatcher frameDispatcher, SwingZOrderKeeper zOrderKeeper) {
+        this.frameDispatcher = frameDispatcher;
+        this.zOrderKeeper = zOrderKeeper;
+    }
+
+    /**
+     * Add the given module renderer to the overlay
+     *
+     * @param renderer The module renderer to show
+     */
+    public synchronized void show(OverlayModuleRenderer renderer) {
+        if (this.renderers.contains(renderer)) {
+            return;
+        }
+
+        // Create the overlay windows on the first visible module
+        if (this.windows.isEmpty()) {
+            for (GraphicsDevice device : GraphicsEnvironment.getLocalGraphicsEnvironment().getScreenDevices()) {
+                OverlayWindow window = new OverlayWindow(this, device.getDefaultConfiguration());
+                this.zOrderKeeper.register(window);
+                this.windows.add(window);
+            }
+        }
+
+        this.renderers.add(renderer);
+        repaint(renderer.getBounds());
+        updateShape();
+
+        // Show the overlay windows
+        if (this.renderers.size() == 1) {
+            for (OverlayWindow window : this.windows) {
+                this.frameDispatcher.setVisible(window, () -> window.setVisible(true));
+            }
+        }
+    }
+
+    /**
+     * Remove the given module renderer from the overlay
+     *
+     * @param renderer The module renderer to hide
+     */
+    public synchronized void hide(OverlayModuleRenderer renderer) {
+        if (!this.renderers.remove(renderer)) {
+            return;
+        }
+
+        if (this.pressedRenderer == renderer) {
+            this.pressedRenderer = null;
+        }
+        if (this.hoveredRenderer == renderer) {
+            this.hoveredRenderer = null;
+        }
+
+        repaint(renderer.getBounds());
+        updateShape();
+
+        // Hide the overlay windows if there is nothing to show
+        if (this.renderers.isEmpty()) {
+            for (OverlayWindow window : this.windows) {
+                this.frameDispatcher.setVisible(window, () -> window.setVisible(false));
+            }
+        }
+    }
+
+    /**
+     * Repaint the given region on all overlay windows
+     *
+     * @param region Region in absolute screen coordinates
+     */
+    public void repaint(Rectangle region) {
+        for (OverlayWindow window : getWindows()) {
+            window.repaintScreenRegion(region);
+        }
+    }
+
+    /**
+     * Limit the shape of all overlay windows to the bounds of the visible modules.
+     * Has to be called after a module was moved, resized, shown or hidden.
+     */
+    public void updateShape() {
+        for (OverlayWindow window : getWindows()) {
+            // The shape is created with the latest module bounds when it's applied
+            this.frameDispatcher.setShape(window, () -> window.setShape(createShape(window.getScreenBounds())));
+        }
+    }
+
+    /**
+     * Create the union of all visible module bounds on the given window
+     *
+     * @param windowBounds Screen bounds of the window
+     * @return Shape relative to the window
+     */
+    private Area createShape(Rectangle windowBounds) {
+        Area shape = new Area();
+        for (OverlayModuleRenderer renderer : this.renderers) {
+            Rectangle bounds = renderer.getBounds();
+            if (bounds.intersects(windowBounds)) {
+                bounds.translate(-windowBounds.x, -windowBounds.y);
+                shape.add(new Area(bounds));
+            }
+        }
+        return shape;
+    }
+
+    /**
+     * Draw all module renderers that intersect the given window
+     *
+     * @param graphics     Graphics of the window
+     * @param windowBounds Screen bounds of the window
+     */
+    public void paint(Graphics2D graphics, Rectangle windowBounds) {
+        Rectangle clip = graphics.getClipBounds();
+
+        for (OverlayModuleRenderer renderer : this.renderers) {
+            Rectangle bounds = renderer.getBounds();
+            bounds.translate(-windowBounds.x, -windowBounds.y);
+
+            // Skip modules outside of the repainted region
+            if (clip != null && !clip.intersects(bounds)) {
+                continue;
+            }
+
+            renderer.getFrameBuffer().paint(graphics, bounds.x, bounds.y);
+        }
+    }
+
+    /**
+     * Find the top module renderer at the given screen position
+     *
+     * @param x Absolute x position
+     * @param y Absolute y position
+     * @return The module renderer at the position or null if there is none
+     */
+    private OverlayModuleRenderer getRendererAt(int x, int y) {
+        for (int i = this.renderers.size() - 1; i >= 0; i--) {
+            OverlayModuleRenderer renderer = this.renderers.get(i);
+            if (renderer.getBounds().contains(x, y)) {
+                return renderer;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Update the hover state of the module renderers.
+     * The module callbacks are called after releasing the lock of the compositor.
+     *
+     * @param x Absolute mouse x position
+     * @param y Absolute mouse y position
+     */
+    private void updateHover(int x, int y) {
+        OverlayModuleRenderer renderer;
+        OverlayModuleRenderer previous;
+        synchronized (this) {
+            renderer = getRendererAt(x, y);
+            previous = this.hoveredRenderer;
+            this.hoveredRenderer = renderer;
+        }
+
+        if (previous != renderer) {
+            if (previous != null) {
+                previous.mouseExited(x - previous.getX(), y - previous.getY());
+            }
+            if (renderer != null) {
+                renderer.mouseEntered(x - renderer.getX(), y - renderer.getY());
+            }
+        } else if (renderer != null) {
+            renderer.mouseMoved(x - renderer.getX(), y - renderer.getY());
+        }
+    }
+
+    /**
+     * Route a mouse press to the module renderer at the given position
+     * and bring the module renderer to the top.
+     *
+     * @param x      Absolute mouse x position
+     * @param y      Absolute mouse y position
+     * @param button Pressed mouse button
+     */
+    void mousePressed(int x, int y, int button) {
+        OverlayModuleRenderer renderer;
+        synchronized (this) {
+            renderer = getRendererAt(x, y);
+            this.pressedRenderer = renderer;
+
+            // Bring to top
+            if (renderer != null && this.renderers.remove(renderer)) {
+                this.renderers.add(renderer);
+                repaint(renderer.getBounds());
+            }
+        }
+
+        if (renderer != null) {
+            renderer.getRenderCallback().onMousePressed(x - renderer.getX(), y - renderer.getY(), button);
+        }
+    }
+
+    /**
+     * Route a mouse drag to the pressed module renderer
+     *
+     * @param x      Absolute mouse x position
+     * @param y      Absolute mouse y position
+     * @param button Pressed mouse button
+     */
+    void mouseDragged(int x, int y, int button) {
+        OverlayModuleRenderer renderer = getPressedRenderer();
+        if (renderer != null) {
+            renderer.getRenderCallback().onMouseDragged(x - renderer.getX(), y - renderer.getY(), button);
+        }
+    }
+
+    /**
+     * Route a mouse release to the pressed module renderer
+     *
+     * @param x      Absolute mouse x position
+     * @param y      Absolute mouse y position
+     * @param button Released mouse button
+     */
+    void mouseReleased(int x, int y, int button) {
+        OverlayModuleRenderer renderer;
+        synchronized (this) {
+            renderer = this.pressedRenderer;
+            this.pressedRenderer = null;
+        }
+
+        if (renderer != null) {
+            renderer.getRenderCallback().onMouseReleased(x - renderer.getX(), y - renderer.getY(), button);
+        }
+        updateHover(x, y);
+    }
+
+    /**
+     * Update the hover state after a mouse movement
+     *
+     * @param x Absolute mouse x position
+     * @param y Absolute mouse y position
+     */
+    void mouseMoved(int x, int y) {
+        updateHover(x, y);
+    }
+
+    /**
+     * Reset the hover state after the mouse left an overlay window
+     */
+    void mouseExited() {
+        OverlayModuleRenderer previous;
+        synchronized (this) {
+            previous = this.hoveredRenderer;
+            if (this.pressedRenderer != null || previous == null) {
+                return;
+            }
+            this.hoveredRenderer = null;
+        }
+
+        previous.mouseExited(previous.getFrameBuffer().getMouseX(), previous.getFrameBuffer().getMouseY());
+    }
+
+    /**
+     * Route a mouse scroll to the module renderer at the given position
+     *
+     * @param x            Absolute mouse x position
+     * @param y            Absolute mouse y position
+     * @param scrollAmount Scroll amount
+     */
+    void mouseScrolled(int x, int y, int scrollAmount) {
+        OverlayModuleRenderer renderer;
+        synchronized (this) {
+            renderer = getRendererAt(x, y);
+        }
+
+        if (renderer != null) {
+            renderer.getRenderCallback().onMouseScroll(x - renderer.getX(), y - renderer.getY(), scrollAmount);
+        }
+    }
+
+    /**
+     * Get the module renderer that receives the mouse events until the mouse is released
+     *
+     * @return The pressed module renderer or null
+     */
+    private synchronized OverlayModuleRenderer getPressedRenderer() {
+        return this.pressedRenderer;
+    }
+
+    /**
+     * Check if the overlay can be used on all monitors.
+     * The overlay windows require per-pixel translucency and shaped windows, otherwise they would block
+     * the mouse input of the entire desktop, e.g. on X11 without the shape extension.
+     *
+     * @return The overlay windows are supported
+     */
+    public static boolean isSupported() {
+        if (GraphicsEnvironment.isHeadless()) {
+            return false;
+        }
+
+        for (GraphicsDevice device : GraphicsEnvironment.getLocalGraphicsEnvironment().getScreenDevices()) {
+            if (!device.isWindowTranslucencySupported(GraphicsDevice.WindowTranslucency.PERPIXEL_TRANSLUCENT)
+                    || !device.isWindowTranslucencySupported(GraphicsDevice.WindowTranslucency.PERPIXEL_TRANSPARENT)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public SwingFrameDispatcher getFrameDispatcher() {
+        return this.frameDispatcher;
+    }
+
+    /**
+     * Get a snapshot of the overlay windows
+     *
+     * @return All created overlay windows
+     */
+    private synchronized List<OverlayWindow> getWindows() {
+        return new ArrayList<>(this.windows);
+    }
+}
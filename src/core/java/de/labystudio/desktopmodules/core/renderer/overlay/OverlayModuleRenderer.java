@@ -0,0 +1,274 @@
+package de.labystudio.desktopmodules.core.renderer.overlay;
+
+import de.labystudio.desktopmodules.core.metrics.ModuleMetrics;
+import de.labystudio.desktopmodules.core.module.render.FrameDamage;
+import de.labystudio.desktopmodules.core.module.render.IModuleRenderer;
+import de.labystudio.desktopmodules.core.module.render.IRenderCallback;
+import de.labystudio.desktopmodules.core.renderer.IScreenBounds;
+import de.labystudio.desktopmodules.core.renderer.swing.SwingFrameBuffer;
+import de.labystudio.desktopmodules.core.renderer.swing.SwingScreenBounds;
+
+import java.awt.Rectangle;
+
+/**
+ * Module renderer without an own window.
+ * The frames are recorded into a {@link SwingFrameBuffer} and drawn on the overlay windows of the {@link OverlayCompositor}.
+ *
+ * @author LabyStudio
+ */
+public class OverlayModuleRenderer implements IModuleRenderer {
+
+    private final OverlayCompositor compositor;
+    private final IRenderCallback renderCallback;
+
+    private final FrameDamage frameDamage = new FrameDamage();
+    private final SwingFrameBuffer frameBuffer;
+
+    /**
+     * The next frame is presented even if it is identical to the current frame
+     */
+    private volatile boolean frameRequested;
+
+    private volatile int x;
+    private volatile int y;
+    private volatile int width;
+    private volatile int height;
+
+    private volatile boolean visible;
+    private volatile boolean mouseOver;
+
+    /**
+     * Create new overlay module renderer
+     *
+     * @param compositor     The compositor to draw the module on
+     * @param renderCallback Render callback
+     * @param width          Module width
+     * @param height         Module height
+     */
+    public OverlayModuleRenderer(OverlayCompositor compositor, IRenderCallback renderCallback, int width, int height) {
+        this(compositor, renderCallback, width, height, false);
+    }
+
+    /**
+     * Create new overlay module renderer
+     *
+     * @param compositor        The compositor to draw the module on
+     * @param renderCallback    Render callback
+     * @param width             Module width
+     * @param height            Module height
+     * @param softwareRendering Rasterize the frames in software instead of using Java2D
+     */
+    public OverlayModuleRenderer(OverlayCompositor compositor, IRenderCallback renderCallback, int width, int height, boolean softwareRendering) {
+        this.compositor = compositor;
+        this.renderCallback = renderCallback;
+        this.width = width;
+        this.height = height;
+        this.frameBuffer = new SwingFrameBuffer(this, renderCallback, softwareRendering);
+    }
+
+    @Override
+    public void requestFrame() {
+        invalidateFrame();
+        this.frameRequested = true;
+        this.renderCallback.scheduleFrame();
+    }
+
+    @Override
+    public void requestFrame(int x, int y, int width, int height) {
+        invalidateFrame(x, y, width, height);
+        this.frameRequested = true;
+        this.renderCallback.scheduleFrame();
+    }
+
+    @Override
+    public void invalidateFrame() {
+        this.frameDamage.invalidate();
+    }
+
+    @Override
+    public void invalidateFrame(int x, int y, int width, int height) {
+        this.frameDamage.invalidate(x, y, width, height);
+    }
+
+    @Override
+    public boolean isFrameInvalid() {
+        return this.frameDamage.isInvalid();
+    }
+
+    @Override
+    public void updateFrame() {
+        boolean force = this.frameRequested;
+        this.frameRequested = false;
+
+        updateFrame(force);
+    }
+
+    /**
+     * Produce a new frame if the current frame is invalid
+     *
+     * @param force Repaint even if the recorded frame is identical to the presented frame
+     */
+    private void updateFrame(boolean force) {
+        // Repaint only the damaged region
+        Rectangle clip = this.frameDamage.take(this.width, this.height);
+        if (clip != null) {
+            clip = this.frameBuffer.present(clip, force);
+            if (clip != null) {
+                clip.translate(this.x, this.y);
+                this.compositor.repaint(clip);
+            }
+        } else {
+            this.frameBuffer.getMetrics().recordSkippedFrame();
+        }
+
+        // Make visible
+        if (!this.visible) {
+            setVisible(true);
+        }
+    }
+
+    @Override
+    public void setVisible(boolean visible) {
+        if (this.visible == visible) {
+            return;
+        }
+        this.visible = visible;
+
+        if (visible) {
+            this.compositor.show(this);
+        } else {
+            this.compositor.hide(this);
+        }
+    }
+
+    @Override
+    public int getX() {
+        return this.x;
+    }
+
+    @Override
+    public int getY() {
+        return this.y;
+    }
+
+    @Override
+    public int getWidth() {
+        return this.width;
+    }
+
+    @Override
+    public int getHeight() {
+        return this.height;
+    }
+
+    /**
+     * Get the screen bounds of the module
+     *
+     * @return Bounds in absolute screen coordinates
+     */
+    public Rectangle getBounds() {
+        return new Rectangle(this.x, this.y, this.width, this.height);
+    }
+
+    @Override
+    public void setLocation(int x, int y) {
+        Rectangle previous = getBounds();
+
+        this.x = x;
+        this.y = y;
+
+        // Repaint the previous and the new position
+        if (this.visible) {
+            this.compositor.repaint(previous);
+            this.compositor.repaint(getBounds());
+            this.compositor.updateShape();
+        }
+    }
+
+    @Override
+    public void setSize(int width, int height) {
+        Rectangle previous = getBounds();
+
+        this.width = width;
+        this.height = height;
+        invalidateFrame();
+
+        // Clear the previous size
+        if (this.visible) {
+            this.compositor.repaint(previous);
+            this.compositor.updateShape();
+        }
+    }
+
+    @Override
+    public IScreenBounds getScreenBounds() {
+        return new SwingScreenBounds();
+    }
+
+    @Override
+    public IScreenBounds getScreenBoundsOfTargetMonitor() {
+        return new SwingScreenBounds(this.x + this.width / 2, this.y);
+    }
+
+    @Override
+    public boolean isMouseOver() {
+        return this.mouseOver;
+    }
+
+    /**
+     * Called by the compositor when the mouse enters the module
+     *
+     * @param x Mouse x position relative to the module position
+     * @param y Mouse y position relative to the module position
+     */
+    void mouseEntered(int x, int y) {
+        this.mouseOver = true;
+        this.frameBuffer.setMousePosition(x, y);
+
+        // Repaint on hover state change
+        invalidateFrame();
+        this.renderCallback.scheduleFrame();
+    }
+
+    /**
+     * Called by the compositor when the mouse leaves the module
+     *
+     * @param x Mouse x position relative to the module position
+     * @param y Mouse y position relative to the module position
+     */
+    void mouseExited(int x, int y) {
+        this.mouseOver = false;
+        this.frameBuffer.setMousePosition(x, y);
+
+        // Repaint on hover state change
+        invalidateFrame();
+        this.renderCallback.scheduleFrame();
+    }
+
+    /**
+     * Called by the compositor when the mouse moves over the module
+     *
+     * @param x Mouse x position relative to the module position
+     * @param y Mouse y position relative to the module position
+     */
+    void mouseMoved(int x, int y) {
+        this.frameBuffer.setMousePosition(x, y);
+
+        // Repaint on mouse position change
+        invalidateFrame();
+        this.renderCallback.scheduleFrame();
+    }
+
+    @Override
+    public void setMetrics(ModuleMetrics metrics) {
+        this.frameBuffer.setMetrics(metrics);
+    }
+
+    public SwingFrameBuffer getFrameBuffer() {
+        return this.frameBuffer;
+    }
+
+    public IRenderCallback getRenderCallback() {
+        return this.renderCallback;
+    }
+}
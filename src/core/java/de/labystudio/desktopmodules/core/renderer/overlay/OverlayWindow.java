@@ -0,0 +1,124 @@
+package de.labystudio.desktopmodules.core.renderer.overlay;
+
+import javax.swing.JDialog;
+import javax.swing.JPanel;
+import java.awt.Color;
+import java.awt.Frame;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Rectangle;
+import java.awt.event.MouseEvent;
+import java.awt.event.MouseListener;
+import java.awt.event.MouseMotionListener;
+import java.awt.event.MouseWheelEvent;
+import java.awt.event.MouseWheelListener;
+
+/**
+ * Transparent overlay window that covers an entire monitor and draws all modules of the compositor on it
+ *
+ * @author LabyStudio
+ */
+public class OverlayWindow extends JDialog implements MouseListener, MouseMotionListener, MouseWheelListener {
+
+    private final OverlayCompositor compositor;
+    private final Rectangle screenBounds;
+
+    /**
+     * Create an overlay window for the given monitor
+     *
+     * @param compositor    The compositor that provides the modules
+     * @param configuration Graphics configuration of the monitor
+     */
+    public OverlayWindow(OverlayCompositor compositor, GraphicsConfiguration configuration) {
+        super((Frame) null, "DesktopModules Overlay", false, configuration);
+
+        this.compositor = compositor;
+        this.screenBounds = configuration.getBounds();
+
+        // Canvas
+        this.setContentPane(new JPanel() {
+            @Override
+            public void paint(Graphics g) {
+                super.paint(g);
+
+                // Draw all modules on this monitor
+                OverlayWindow.this.compositor.paint((Graphics2D) g, OverlayWindow.this.screenBounds);
+            }
+        });
+
+        // Init
+        this.setUndecorated(true);
+        this.setResizable(false);
+        this.setBounds(this.screenBounds);
+
+        // Overlay
+        this.setType(Type.UTILITY);
+        this.setBackground(new Color(255, 255, 255, 0));
+        this.setAlwaysOnTop(true);
+        this.setFocusableWindowState(false);
+        this.setAutoRequestFocus(false);
+
+        // Listener
+        this.addMouseListener(this);
+        this.addMouseMotionListener(this);
+        this.addMouseWheelListener(this);
+    }
+
+    /**
+     * Repaint the given region if it intersects this window
+     *
+     * @param region Region in absolute screen coordinates
+     */
+    public void repaintScreenRegion(Rectangle region) {
+        if (region.intersects(this.screenBounds)) {
+            Rectangle local = new Rectangle(region);
+            local.translate(-this.screenBounds.x, -this.screenBounds.y);
+            this.compositor.getFrameDispatcher().repaint(getContentPane(), local);
+        }
+    }
+
+    @Override
+    public void mousePressed(MouseEvent event) {
+        this.compositor.mousePressed(event.getXOnScreen(), event.getYOnScreen(), event.getButton());
+    }
+
+    @Override
+    public void mouseDragged(MouseEvent event) {
+        this.compositor.mouseDragged(event.getXOnScreen(), event.getYOnScreen(), event.getButton());
+    }
+
+    @Override
+    public void mouseReleased(MouseEvent event) {
+        this.compositor.mouseReleased(event.getXOnScreen(), event.getYOnScreen(), event.getButton());
+    }
+
+    @Override
+    public void mouseMoved(MouseEvent event) {
+        this.compositor.mouseMoved(event.getXOnScreen(), event.getYOnScreen());
+    }
+
+    @Override
+    public void mouseExited(MouseEvent event) {
+        this.compositor.mouseExited();
+    }
+
+    @Override
+    public void mouseWheelMoved(MouseWheelEvent event) {
+        this.compositor.mouseScrolled(event.getXOnScreen(), event.getYOnScreen(), event.getWheelRotation());
+    }
+
+    @Override
+    public void mouseEntered(MouseEvent event) {
+        this.compositor.mouseMoved(event.getXOnScreen(), event.getYOnScreen());
+    }
+
+    @Override
+    public void mouseClicked(MouseEvent event) {
+        // Unused
+    }
+
+    public Rectangle getScreenBounds() {
+        return this.screenBounds;
+    }
+}
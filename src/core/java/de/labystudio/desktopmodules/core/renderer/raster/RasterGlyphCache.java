@@ -0,0 +1,208 @@
+package de.labystudio.desktopmodules.core.renderer.raster;
+
+import de.labystudio.desktopmodules.core.renderer.font.Font;
+import de.labystudio.desktopmodules.core.renderer.swing.SwingFontRegistry;
+import de.labystudio.desktopmodules.core.renderer.swing.SwingRenderContext;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.font.FontRenderContext;
+import java.awt.font.GlyphVector;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache of rasterized glyph coverage masks for the software rasterizer.
+ * Each glyph is rasterized once by Java2D with the rendering hints of the render context.
+ *
+ * @author LabyStudio
+ */
+public class RasterGlyphCache {
+
+    /**
+     * Amount of characters that are stored in an array instead of a map
+     */
+    private static final int DIRECT_GLYPHS = 256;
+
+    private final SwingFontRegistry fontRegistry = new SwingFontRegistry();
+    private final Map<Font, Glyphs> fonts = new ConcurrentHashMap<>();
+
+    /**
+     * Font render context with the rendering hints of the render context
+     */
+    private final FontRenderContext fontRenderContext;
+
+    public RasterGlyphCache() {
+        Graphics2D graphics = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB).createGraphics();
+        try {
+            SwingRenderContext.applyRenderingHints(graphics);
+            this.fontRenderContext = graphics.getFontRenderContext();
+        } finally {
+            graphics.dispose();
+        }
+    }
+
+    /**
+     * Get the glyphs of the given font
+     *
+     * @param font Font wrapper
+     * @return Glyphs of the font
+     */
+    public Glyphs get(Font font) {
+        Glyphs glyphs = this.fonts.get(font);
+        return glyphs != null ? glyphs : this.fonts.computeIfAbsent(font, key -> new Glyphs(this.fontRegistry.get(key)));
+    }
+
+    /**
+     * Rasterized glyphs of a font
+     */
+    public class Glyphs {
+
+        private final SwingFontRegistry.Entry entry;
+
+        /**
+         * Glyphs of the first characters.
+         * Racing threads may rasterize the same glyph twice, but the glyphs are immutable.
+         */
+        private final Glyph[] directGlyphs = new Glyph[DIRECT_GLYPHS];
+        private final Map<Character, Glyph> glyphs = new ConcurrentHashMap<>();
+
+        private Glyphs(SwingFontRegistry.Entry entry) {
+            this.entry = entry;
+        }
+
+        /**
+         * Get the rasterized glyph of the given character
+         *
+         * @param character The character
+         * @return The rasterized glyph
+         */
+        public Glyph get(char character) {
+            if (character < DIRECT_GLYPHS) {
+                Glyph glyph = this.directGlyphs[character];
+                if (glyph == null) {
+                    this.directGlyphs[character] = glyph = rasterize(character);
+                }
+                return glyph;
+            }
+
+            Glyph glyph = this.glyphs.get(character);
+            return glyph != null ? glyph : this.glyphs.computeIfAbsent(character, this::rasterize);
+        }
+
+        /**
+         * Get the cached width of the given text
+         *
+         * @param text The string
+         * @return The string width in pixel
+         */
+        public int getStringWidth(String text) {
+            return this.entry.getStringWidth(text);
+        }
+
+        /**
+         * Rasterize the coverage mask of the given character
+         *
+         * @param character The character
+         * @return The rasterized glyph
+         */
+        private Glyph rasterize(char character) {
+            GlyphVector vector = this.entry.getFont().createGlyphVector(fontRenderContext, new char[]{character});
+            Rectangle bounds = vector.getPixelBounds(fontRenderContext, 0, 0);
+            int advance = this.entry.getMetrics().charWidth(character);
+
+            // Whitespace has no pixels
+            if (bounds.isEmpty()) {
+                return new Glyph(0, 0, 0, 0, advance, new byte[0]);
+            }
+
+            BufferedImage image = new BufferedImage(bounds.width, bounds.height, BufferedImage.TYPE_INT_ARGB);
+            Graphics2D graphics = image.createGraphics();
+            try {
+                SwingRenderContext.applyRenderingHints(graphics);
+                graphics.setColor(Color.WHITE);
+                graphics.drawGlyphVector(vector, -bounds.x, -bounds.y);
+            } finally {
+                graphics.dispose();
+            }
+
+            // The alpha channel is the coverage of each pixel
+            int[] pixels = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+            byte[] mask = new byte[pixels.length];
+            for (int i = 0; i < pixels.length; i++) {
+                mask[i] = (byte) (pixels[i] >>> 24);
+            }
+
+            return new Glyph(bounds.x, bounds.y, bounds.width, bounds.height, advance, mask);
+        }
+    }
+
+    /**
+     * Coverage mask of a single glyph
+     */
+    public static class Glyph {
+
+        private final int offsetX;
+        private final int offsetY;
+        private final int width;
+        private final int height;
+        private final int advance;
+        private final byte[] mask;
+
+        private Glyph(int offsetX, int offsetY, int width, int height, int advance, byte[] mask) {
+            this.offsetX = offsetX;
+            this.offsetY = offsetY;
+            this.width = width;
+            this.height = height;
+            this.advance = advance;
+            this.mask = mask;
+        }
+
+        /**
+         * Get the x offset of the mask relative to the pen position
+         *
+         * @return X offset in pixel
+         */
+        public int getOffsetX() {
+            return this.offsetX;
+        }
+
+        /**
+         * Get the y offset of the mask relative to the baseline
+         *
+         * @return Y offset in pixel
+         */
+        public int getOffsetY() {
+            return this.offsetY;
+        }
+
+        public int getWidth() {
+            return this.width;
+        }
+
+        public int getHeight() {
+            return this.height;
+        }
+
+        /**
+         * Get the distance to the pen position of the next glyph
+         *
+         * @return Advance in pixel
+         */
+        public int getAdvance() {
+            return this.advance;
+        }
+
+        /**
+         * Get the coverage of each pixel from 0 to 255, row by row
+         *
+         * @return Coverage mask
+         */
+        public byte[] getMask() {
+            return this.mask;
+        }
+    }
+}
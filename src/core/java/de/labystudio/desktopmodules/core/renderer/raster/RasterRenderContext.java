@@ -0,0 +1,661 @@
+package de.labystudio.desktopmodules.core.renderer.raster;
+
+import de.labystudio.desktopmodules.core.loader.MipmappedImage;
+import de.labystudio.desktopmodules.core.renderer.IRenderContext;
+import de.labystudio.desktopmodules.core.renderer.font.Font;
+import de.labystudio.desktopmodules.core.renderer.font.StringAlignment;
+import de.labystudio.desktopmodules.core.renderer.font.StringEffect;
+import de.labystudio.desktopmodules.core.renderer.layer.RenderLayer;
+import de.labystudio.desktopmodules.core.renderer.swing.SwingImageCache;
+import de.labystudio.desktopmodules.core.renderer.swing.SwingRenderContext;
+
+import java.awt.AlphaComposite;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.NoninvertibleTransformException;
+import java.awt.image.BufferedImage;
+import java.awt.image.ColorModel;
+import java.awt.image.DataBufferInt;
+import java.awt.image.DirectColorModel;
+import java.awt.image.SinglePixelPackedSampleModel;
+import java.awt.image.WritableRaster;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Software rasterizer implementation of the render context.
+ * <p>
+ * Rectangles, gradients, images and cached glyphs are written directly into the premultiplied ARGB
+ * pixels of the target image without the per-call setup of Java2D. The target image is drawn once per frame.
+ * Rotated or flipped transformations and images of other formats are drawn by Java2D on the same pixels.
+ * <p>
+ * Edges are snapped to whole pixels and outlines are one pixel wide without anti-aliasing.
+ * Images whose pixels are accessed directly are no longer accelerated by Java2D.
+ *
+ * @author LabyStudio
+ */
+public class RasterRenderContext implements IRenderContext {
+
+    /**
+     * Glyph masks shared by all raster render contexts
+     */
+    private static final RasterGlyphCache GLYPH_CACHE = new RasterGlyphCache();
+
+    /**
+     * Pre-scaled images in the texture format shared by all raster render contexts
+     */
+    private static final SwingImageCache IMAGE_CACHE = new SwingImageCache();
+
+    private static final AffineTransform IDENTITY = new AffineTransform();
+
+    /**
+     * Cached images of the drawn layers
+     */
+    private final Map<RenderLayer, LayerImage> layerImages = new WeakHashMap<>();
+
+    /**
+     * Reused color table of the gradients
+     */
+    private final int[] gradient = new int[256];
+
+    private final AffineTransform transform = new AffineTransform();
+
+    private BufferedImage target;
+    private int[] pixels;
+    private int offset;
+    private int stride;
+
+    /**
+     * Pixels of the currently drawn image
+     */
+    private int[] sourcePixels;
+    private int sourceOffset;
+    private int sourceStride;
+
+    /**
+     * Clip in device pixels, the maximum is exclusive
+     */
+    private Rectangle clip;
+    private int clipMinX;
+    private int clipMinY;
+    private int clipMaxX;
+    private int clipMaxY;
+
+    private float alpha = 1.0F;
+    private int alphaValue = 255;
+
+    /**
+     * Java2D fallback for rotated transformations and incompatible images
+     */
+    private final SwingRenderContext fallbackContext = new SwingRenderContext();
+    private Graphics2D fallbackGraphics;
+
+    /**
+     * Start rendering into the given image
+     *
+     * @param target Image in the premultiplied ARGB format, e.g. {@link BufferedImage#TYPE_INT_ARGB_PRE}
+     * @param clip   The repainted region or null to repaint the entire image
+     */
+    public void begin(BufferedImage target, Rectangle clip) {
+        if (!bind(target)) {
+            throw new IllegalArgumentException("Target image must have a premultiplied integer ARGB format");
+        }
+
+        this.target = target;
+        this.pixels = this.sourcePixels;
+        this.offset = this.sourceOffset;
+        this.stride = this.sourceStride;
+        this.sourcePixels = null;
+
+        this.clipMinX = clip == null ? 0 : Math.max(0, clip.x);
+        this.clipMinY = clip == null ? 0 : Math.max(0, clip.y);
+        this.clipMaxX = clip == null ? target.getWidth() : Math.min(target.getWidth(), clip.x + clip.width);
+        this.clipMaxY = clip == null ? target.getHeight() : Math.min(target.getHeight(), clip.y + clip.height);
+        this.clip = new Rectangle(this.clipMinX, this.clipMinY,
+                Math.max(0, this.clipMaxX - this.clipMinX), Math.max(0, this.clipMaxY - this.clipMinY));
+
+        this.transform.setToIdentity();
+        setAlpha(1.0F);
+    }
+
+    /**
+     * Clear the repainted region
+     */
+    public void clear() {
+        for (int y = this.clipMinY; y < this.clipMaxY; y++) {
+            int index = this.offset + y * this.stride;
+            Arrays.fill(this.pixels, index + this.clipMinX, index + this.clipMaxX, 0);
+        }
+    }
+
+    /**
+     * Finish rendering into the current image
+     */
+    public void end() {
+        if (this.fallbackGraphics != null) {
+            this.fallbackGraphics.dispose();
+            this.fallbackGraphics = null;
+        }
+
+        this.target = null;
+        this.pixels = null;
+        this.sourcePixels = null;
+    }
+
+    @Override
+    public void drawOutline(double left, double top, double right, double bottom, Color color) {
+        if (!isAxisAligned()) {
+            fallback().drawOutline(left, top, right, bottom, color);
+            return;
+        }
+
+        // Same as the swing context, right and bottom are used as width and height
+        int minX = deviceX(left);
+        int minY = deviceY(top);
+        int maxX = deviceX(left + right);
+        int maxY = deviceY(top + bottom);
+        int argb = premultiply(color.getRGB());
+
+        fillRect(minX, minY, maxX + 1, minY + 1, argb);
+        fillRect(minX, maxY, maxX + 1, maxY + 1, argb);
+        fillRect(minX, minY + 1, minX + 1, maxY, argb);
+        fillRect(maxX, minY + 1, maxX + 1, maxY, argb);
+    }
+
+    @Override
+    public void drawRect(double left, double top, double right, double bottom, Color color) {
+        drawRectWH(left, top, right - left, bottom - top, color);
+    }
+
+    @Override
+    public void drawRectWH(double x, double y, double width, double height, Color color) {
+        if (!isAxisAligned()) {
+            fallback().drawRectWH(x, y, width, height, color);
+            return;
+        }
+
+        fillRect(deviceX(x), deviceY(y), deviceX(x + width), deviceY(y + height), premultiply(color.getRGB()));
+    }
+
+    @Override
+    public void drawGradientRect(double left, double top, double right, double bottom, Color from, double fromX, double fromY, Color to, double toX, double toY) {
+        if (!isAxisAligned()) {
+            fallback().drawGradientRect(left, top, right, bottom, from, fromX, fromY, to, toX, toY);
+            return;
+        }
+
+        int minX = Math.max(deviceX(left), this.clipMinX);
+        int minY = Math.max(deviceY(top), this.clipMinY);
+        int maxX = Math.min(deviceX(right), this.clipMaxX);
+        int maxY = Math.min(deviceY(bottom), this.clipMaxY);
+        if (minX >= maxX || minY >= maxY) {
+            return;
+        }
+
+        // Interpolate the unpremultiplied colors like the gradient paint of Java2D
+        int fromRGB = from.getRGB();
+        int toRGB = to.getRGB();
+        for (int i = 0; i < 256; i++) {
+            int a = interpolate(fromRGB >>> 24, toRGB >>> 24, i);
+            int r = interpolate(fromRGB >> 16 & 0xFF, toRGB >> 16 & 0xFF, i);
+            int g = interpolate(fromRGB >> 8 & 0xFF, toRGB >> 8 & 0xFF, i);
+            int b = interpolate(fromRGB & 0xFF, toRGB & 0xFF, i);
+            this.gradient[i] = premultiply(a << 24 | r << 16 | g << 8 | b);
+        }
+
+        // Project each pixel center onto the gradient axis in device space
+        double startX = fromX * this.transform.getScaleX() + this.transform.getTranslateX();
+        double startY = fromY * this.transform.getScaleY() + this.transform.getTranslateY();
+        double axisX = toX * this.transform.getScaleX() + this.transform.getTranslateX() - startX;
+        double axisY = toY * this.transform.getScaleY() + this.transform.getTranslateY() - startY;
+        double length = axisX * axisX + axisY * axisY;
+        double stepX = length == 0 ? 0 : axisX / length * 255;
+        double stepY = length == 0 ? 0 : axisY / length * 255;
+
+        // The position on the axis is stepped in 16.16 fixed point
+        int[] pixels = this.pixels;
+        int[] gradient = this.gradient;
+        long fixedStepX = Math.round(stepX * 0x10000);
+        for (int y = minY; y < maxY; y++) {
+            int index = this.offset + y * this.stride + minX;
+            double position = (minX + 0.5 - startX) * stepX + (y + 0.5 - startY) * stepY;
+
+            // Vertical gradients have the same color in the entire row
+            if (fixedStepX == 0) {
+                int color = gradient[position <= 0 ? 0 : position >= 255 ? 255 : (int) (position + 0.5)];
+                fillRow(pixels, index, index + maxX - minX, color);
+                continue;
+            }
+
+            long fixedPosition = Math.round(position * 0x10000) + 0x8000;
+            for (int end = index + maxX - minX; index < end; index++, fixedPosition += fixedStepX) {
+                long step = fixedPosition >> 16;
+                int color = gradient[step <= 0 ? 0 : step >= 255 ? 255 : (int) step];
+                pixels[index] = blend(color, pixels[index]);
+            }
+        }
+    }
+
+    @Override
+    public void drawString(String text, double x, double y, StringAlignment alignment, StringEffect effect, Color color, Font font) {
+        // Glyphs are only cached in their original size
+        if (!isAxisAligned() || this.transform.getScaleX() != 1 || this.transform.getScaleY() != 1 || hasSurrogates(text)) {
+            fallback().drawString(text, x, y, alignment, effect, color, font);
+            return;
+        }
+
+        RasterGlyphCache.Glyphs glyphs = GLYPH_CACHE.get(font);
+
+        int textWidth = alignment == StringAlignment.LEFT ? 0 : glyphs.getStringWidth(text);
+        int xOffset = alignment == StringAlignment.CENTERED ? textWidth / 2 : alignment == StringAlignment.RIGHT ? textWidth : 0;
+
+        // Draw effects
+        if (effect == StringEffect.SHADOW) {
+            drawGlyphs(text, glyphs, deviceX(x - xOffset + 1), deviceY(y + 1), premultiply(0xFF000000));
+        }
+
+        // Draw text
+        drawGlyphs(text, glyphs, deviceX(x - xOffset), deviceY(y), premultiply(color.getRGB()));
+    }
+
+    @Override
+    public void drawString(String text, double width, double offsetX, double y, boolean rightBound, StringEffect effect, Color color, Font font) {
+        drawString(text, rightBound ? width - offsetX : offsetX, y, StringAlignment.from(rightBound), effect, color, font);
+    }
+
+    @Override
+    public int getStringWidth(String text, Font font) {
+        return GLYPH_CACHE.get(font).getStringWidth(text);
+    }
+
+    @Override
+    public void drawImage(BufferedImage image, double x, double y) {
+        drawImage(image, x, y, image.getWidth(), image.getHeight());
+    }
+
+    @Override
+    public void drawImage(BufferedImage image, double x, double y, double width, double height) {
+        if (!isAxisAligned()) {
+            fallback().drawImage(image, x, y, width, height);
+            return;
+        }
+
+        // Use the nearest level of mipmapped images for the effective scale
+        if (image instanceof MipmappedImage) {
+            image = ((MipmappedImage) image).getLevel(width * this.transform.getScaleX(), height * this.transform.getScaleY());
+        }
+
+        int minX = deviceX(x);
+        int minY = deviceY(y);
+        int deviceWidth = deviceX(x + width) - minX;
+        int deviceHeight = deviceY(y + height) - minY;
+        if (deviceWidth <= 0 || deviceHeight <= 0) {
+            return;
+        }
+
+        // Blit unscaled images directly and loaded textures using a pre-scaled copy in the texture format
+        boolean unscaled = deviceWidth == image.getWidth() && deviceHeight == image.getHeight();
+        if (!unscaled || !bind(image)) {
+            BufferedImage scaled = IMAGE_CACHE.get(image, deviceWidth, deviceHeight, null);
+            if (scaled == null || !bind(scaled)) {
+                fallback().drawImage(image, x, y, width, height);
+                return;
+            }
+        }
+
+        blit(minX, minY, deviceWidth, deviceHeight);
+    }
+
+    @Override
+    public void drawLayer(RenderLayer layer, double x, double y) {
+        int width = layer.getWidth();
+        int height = layer.getHeight();
+        if (width <= 0 || height <= 0) {
+            return;
+        }
+
+        LayerImage layerImage = this.layerImages.computeIfAbsent(layer, key -> new LayerImage());
+
+        // Create a new image if the size changed
+        BufferedImage image = layerImage.image;
+        boolean restored = false;
+        if (image == null || image.getWidth() != width || image.getHeight() != height) {
+            image = layerImage.image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB_PRE);
+            restored = true;
+        }
+
+        // Render the content again if it changed
+        int version = layer.getVersion();
+        if (restored || layerImage.version != version) {
+            RasterRenderContext context = new RasterRenderContext();
+            context.begin(image, null);
+            try {
+                context.clear();
+                layer.getRenderer().onRenderLayer(context, width, height);
+            } catch (Exception e) {
+                e.printStackTrace();
+            } finally {
+                context.end();
+            }
+            layerImage.version = version;
+        }
+
+        drawImage(image, Math.round(x), Math.round(y), width, height);
+    }
+
+    @Override
+    public Rectangle getClipBounds() {
+        // Transform the clip into the current coordinate space
+        try {
+            return this.transform.createInverse().createTransformedShape(this.clip).getBounds();
+        } catch (NoninvertibleTransformException e) {
+            return new Rectangle();
+        }
+    }
+
+    @Override
+    public void translate(double x, double y) {
+        this.transform.translate(x, y);
+    }
+
+    @Override
+    public void scale(double x, double y) {
+        this.transform.scale(x, y);
+    }
+
+    @Override
+    public void rotate(double degrees) {
+        this.transform.rotate(degrees);
+    }
+
+    @Override
+    public void setAlpha(float alpha) {
+        this.alpha = Math.max(0.0F, Math.min(1.0F, alpha));
+        this.alphaValue = Math.round(this.alpha * 255);
+    }
+
+    /**
+     * Fill a rectangle of device pixels with the given premultiplied color
+     *
+     * @param minX  Left edge in device pixels
+     * @param minY  Top edge in device pixels
+     * @param maxX  Exclusive right edge in device pixels
+     * @param maxY  Exclusive bottom edge in device pixels
+     * @param color Premultiplied color
+     */
+    private void fillRect(int minX, int minY, int maxX, int maxY, int color) {
+        minX = Math.max(minX, this.clipMinX);
+        minY = Math.max(minY, this.clipMinY);
+        maxX = Math.min(maxX, this.clipMaxX);
+        maxY = Math.min(maxY, this.clipMaxY);
+        if (minX >= maxX || minY >= maxY || color == 0) {
+            return;
+        }
+
+        for (int y = minY; y < maxY; y++) {
+            int index = this.offset + y * this.stride + minX;
+            fillRow(this.pixels, index, index + maxX - minX, color);
+        }
+    }
+
+    /**
+     * Draw the given premultiplied color over a row of pixels
+     *
+     * @param pixels Target pixels
+     * @param from   First index
+     * @param to     Exclusive last index
+     * @param color  Premultiplied color
+     */
+    private static void fillRow(int[] pixels, int from, int to, int color) {
+        int alpha = color >>> 24;
+        if (alpha == 0xFF) {
+            Arrays.fill(pixels, from, to, color);
+            return;
+        }
+        if (alpha == 0) {
+            return;
+        }
+
+        // The destination is multiplied with the same factor for each pixel
+        int inverse = 0xFF - alpha;
+        for (int index = from; index < to; index++) {
+            pixels[index] = color + multiply(pixels[index], inverse);
+        }
+    }
+
+    /**
+     * Draw the coverage masks of the given text with the given premultiplied color
+     *
+     * @param text   Text to render
+     * @param glyphs Glyphs of the font
+     * @param penX   X position of the first glyph in device pixels
+     * @param baseY  Baseline in device pixels
+     * @param color  Premultiplied color
+     */
+    private void drawGlyphs(String text, RasterGlyphCache.Glyphs glyphs, int penX, int baseY, int color) {
+        if (color == 0) {
+            return;
+        }
+
+        for (int i = 0; i < text.length(); i++) {
+            RasterGlyphCache.Glyph glyph = glyphs.get(text.charAt(i));
+            int glyphX = penX + glyph.getOffsetX();
+            int glyphY = baseY + glyph.getOffsetY();
+            penX += glyph.getAdvance();
+
+            int minX = Math.max(glyphX, this.clipMinX);
+            int minY = Math.max(glyphY, this.clipMinY);
+            int maxX = Math.min(glyphX + glyph.getWidth(), this.clipMaxX);
+            int maxY = Math.min(glyphY + glyph.getHeight(), this.clipMaxY);
+            if (minX >= maxX || minY >= maxY) {
+                continue;
+            }
+
+            int[] pixels = this.pixels;
+            byte[] mask = glyph.getMask();
+            for (int y = minY; y < maxY; y++) {
+                int index = this.offset + y * this.stride + minX;
+                int maskIndex = (y - glyphY) * glyph.getWidth() + minX - glyphX;
+
+                for (int x = minX; x < maxX; x++, index++, maskIndex++) {
+                    int coverage = mask[maskIndex] & 0xFF;
+                    if (coverage != 0) {
+                        pixels[index] = blend(coverage == 0xFF ? color : multiply(color, coverage), pixels[index]);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Draw the pixels of the bound image unscaled at the given position
+     *
+     * @param minX   Left edge in device pixels
+     * @param minY   Top edge in device pixels
+     * @param width  Image width
+     * @param height Image height
+     */
+    private void blit(int minX, int minY, int width, int height) {
+        int startX = Math.max(minX, this.clipMinX);
+        int startY = Math.max(minY, this.clipMinY);
+        int endX = Math.min(minX + width, this.clipMaxX);
+        int endY = Math.min(minY + height, this.clipMaxY);
+
+        int[] pixels = this.pixels;
+        int[] sourcePixels = this.sourcePixels;
+        int alpha = this.alphaValue;
+        for (int y = startY; y < endY; y++) {
+            int index = this.offset + y * this.stride + startX;
+            int sourceIndex = this.sourceOffset + (y - minY) * this.sourceStride + startX - minX;
+            int end = index + endX - startX;
+
+            if (alpha == 0xFF) {
+                for (; index < end; index++, sourceIndex++) {
+                    pixels[index] = blend(sourcePixels[sourceIndex], pixels[index]);
+                }
+            } else {
+                for (; index < end; index++, sourceIndex++) {
+                    pixels[index] = blend(multiply(sourcePixels[sourceIndex], alpha), pixels[index]);
+                }
+            }
+        }
+
+        this.sourcePixels = null;
+    }
+
+    /**
+     * Bind the pixels of the given image as source if it has a premultiplied integer ARGB format
+     *
+     * @param image The image to access
+     * @return The pixels of the image are bound
+     */
+    private boolean bind(BufferedImage image) {
+        WritableRaster raster = image.getRaster();
+        if (!(raster.getDataBuffer() instanceof DataBufferInt)
+                || !(raster.getSampleModel() instanceof SinglePixelPackedSampleModel)
+                || !isPremultipliedARGB(image.getColorModel())) {
+            return false;
+        }
+
+        DataBufferInt buffer = (DataBufferInt) raster.getDataBuffer();
+        int stride = ((SinglePixelPackedSampleModel) raster.getSampleModel()).getScanlineStride();
+
+        this.sourcePixels = buffer.getData();
+        this.sourceStride = stride;
+        this.sourceOffset = buffer.getOffset()
+                - raster.getSampleModelTranslateY() * stride
+                - raster.getSampleModelTranslateX();
+        return true;
+    }
+
+    /**
+     * Get the Java2D fallback with the current transformation, clip and alpha
+     *
+     * @return Swing render context on the pixels of the target image
+     */
+    private SwingRenderContext fallback() {
+        if (this.fallbackGraphics == null) {
+            this.fallbackGraphics = this.target.createGraphics();
+            this.fallbackContext.updateGraphics(this.fallbackGraphics);
+        }
+
+        Graphics2D graphics = this.fallbackGraphics;
+        graphics.setTransform(IDENTITY);
+        graphics.setClip(this.clipMinX, this.clipMinY, this.clipMaxX - this.clipMinX, this.clipMaxY - this.clipMinY);
+        graphics.setTransform(this.transform);
+        graphics.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, this.alpha));
+        return this.fallbackContext;
+    }
+
+    /**
+     * Check if the current transformation only translates and scales
+     *
+     * @return The edges stay parallel to the pixel grid
+     */
+    private boolean isAxisAligned() {
+        return (this.transform.getType() & ~(AffineTransform.TYPE_TRANSLATION | AffineTransform.TYPE_MASK_SCALE)) == 0;
+    }
+
+    private int deviceX(double x) {
+        return (int) Math.round(x * this.transform.getScaleX() + this.transform.getTranslateX());
+    }
+
+    private int deviceY(double y) {
+        return (int) Math.round(y * this.transform.getScaleY() + this.transform.getTranslateY());
+    }
+
+    /**
+     * Convert the given color into a premultiplied color with the current alpha applied
+     *
+     * @param argb Unpremultiplied ARGB color
+     * @return Premultiplied ARGB color
+     */
+    private int premultiply(int argb) {
+        int a = divide((argb >>> 24) * this.alphaValue);
+        if (a == 0) {
+            return 0;
+        }
+        return a << 24
+                | divide((argb >> 16 & 0xFF) * a) << 16
+                | divide((argb >> 8 & 0xFF) * a) << 8
+                | divide((argb & 0xFF) * a);
+    }
+
+    private static boolean hasSurrogates(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (Character.isSurrogate(text.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isPremultipliedARGB(ColorModel colorModel) {
+        if (!(colorModel instanceof DirectColorModel) || !colorModel.isAlphaPremultiplied()) {
+            return false;
+        }
+
+        DirectColorModel model = (DirectColorModel) colorModel;
+        return model.getAlphaMask() == 0xFF000000 && model.getRedMask() == 0xFF0000
+                && model.getGreenMask() == 0xFF00 && model.getBlueMask() == 0xFF;
+    }
+
+    private static int interpolate(int from, int to, int step) {
+        return from + divide((to - from) * step);
+    }
+
+    /**
+     * Draw the premultiplied source color over the premultiplied destination color
+     *
+     * @param source      Premultiplied source color
+     * @param destination Premultiplied destination color
+     * @return Premultiplied result
+     */
+    private static int blend(int source, int destination) {
+        int alpha = source >>> 24;
+        if (alpha == 0xFF) {
+            return source;
+        }
+        if (alpha == 0) {
+            return destination;
+        }
+        return source + multiply(destination, 0xFF - alpha);
+    }
+
+    /**
+     * Multiply all channels of the given color with the given factor
+     *
+     * @param color  ARGB color
+     * @param factor Factor from 0 to 255
+     * @return Multiplied color
+     */
+    private static int multiply(int color, int factor) {
+        // Red and blue as well as alpha and green are multiplied at once
+        int redBlue = (color & 0xFF00FF) * factor + 0x800080;
+        int alphaGreen = (color >>> 8 & 0xFF00FF) * factor + 0x800080;
+        redBlue = (redBlue + (redBlue >>> 8 & 0xFF00FF)) >>> 8 & 0xFF00FF;
+        alphaGreen = (alphaGreen + (alphaGreen >>> 8 & 0xFF00FF)) & 0xFF00FF00;
+        return alphaGreen | redBlue;
+    }
+
+    /**
+     * Divide the given value by 255 with rounding
+     *
+     * @param value Value from -65025 to 65025
+     * @return Rounded quotient
+     */
+    private static int divide(int value) {
+        return value >= 0 ? (value + 127) / 255 : -((-value + 127) / 255);
+    }
+
+    /**
+     * Cached image of a layer
+     */
+    private static class LayerImage {
+        private BufferedImage image;
+        private int version;
+    }
+}
@@ -0,0 +1,191 @@
+package de.labystudio.desktopmodules.core.renderer.record;
+
+import de.labystudio.desktopmodules.core.loader.ImmutableTextures;
+import de.labystudio.desktopmodules.core.loader.TextureLoader;
+import de.labystudio.desktopmodules.core.renderer.IRenderContext;
+import de.labystudio.desktopmodules.core.renderer.font.Font;
+import de.labystudio.desktopmodules.core.renderer.font.StringAlignment;
+import de.labystudio.desktopmodules.core.renderer.font.StringEffect;
+import de.labystudio.desktopmodules.core.renderer.layer.RenderLayer;
+
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Compact command buffer of recorded render calls.
+ * The operations, numeric arguments and object arguments are stored in separate growing arrays,
+ * so recording a frame doesn't allocate once the buffers reached their final size.
+ *
+ * @author LabyStudio
+ */
+public class DisplayList {
+
+    static final int DRAW_OUTLINE = 0;
+    static final int DRAW_RECT = 1;
+    static final int DRAW_GRADIENT_RECT = 2;
+    static final int DRAW_STRING = 3;
+    static final int DRAW_IMAGE = 4;
+    static final int TRANSLATE = 5;
+    static final int SCALE = 6;
+    static final int ROTATE = 7;
+    static final int SET_ALPHA = 8;
+    static final int DRAW_LAYER = 9;
+
+    private int[] operations = new int[32];
+    private int operationCount;
+
+    private double[] values = new double[128];
+    private int valueCount;
+
+    private Object[] references = new Object[32];
+    private int referenceCount;
+
+    /**
+     * Add an operation to the buffer
+     *
+     * @param operation Operation id
+     */
+    void operation(int operation) {
+        if (this.operationCount == this.operations.length) {
+            this.operations = Arrays.copyOf(this.operations, this.operationCount * 2);
+        }
+        this.operations[this.operationCount++] = operation;
+    }
+
+    /**
+     * Add a numeric argument to the buffer
+     *
+     * @param value Argument value
+     */
+    void value(double value) {
+        if (this.valueCount == this.values.length) {
+            this.values = Arrays.copyOf(this.values, this.valueCount * 2);
+        }
+        this.values[this.valueCount++] = value;
+    }
+
+    /**
+     * Add an object argument to the buffer
+     *
+     * @param reference Argument object
+     */
+    void reference(Object reference) {
+        if (this.referenceCount == this.references.length) {
+            this.references = Arrays.copyOf(this.references, this.referenceCount * 2);
+        }
+        this.references[this.referenceCount++] = reference;
+    }
+
+    /**
+     * Remove all recorded operations
+     */
+    public void clear() {
+        // Release the references to allow the garbage collection of images
+        Arrays.fill(this.references, 0, this.referenceCount, null);
+
+        this.operationCount = 0;
+        this.valueCount = 0;
+        this.referenceCount = 0;
+    }
+
+    /**
+     * Check if the given display list contains exactly the same operations.
+     * Textures of the {@link TextureLoader} and layers are compared by identity, layers additionally by their content version.
+     * Other images are always treated as changed, because they can be modified in place.
+     *
+     * @param other The display list to compare with
+     * @return Both display lists would render the same frame
+     */
+    public boolean contentEquals(DisplayList other) {
+        if (this.operationCount != other.operationCount
+                || this.valueCount != other.valueCount
+                || this.referenceCount != other.referenceCount) {
+            return false;
+        }
+
+        for (int i = 0; i < this.operationCount; i++) {
+            if (this.operations[i] != other.operations[i]) {
+                return false;
+            }
+        }
+        for (int i = 0; i < this.valueCount; i++) {
+            if (Double.doubleToLongBits(this.values[i]) != Double.doubleToLongBits(other.values[i])) {
+                return false;
+            }
+        }
+        for (int i = 0; i < this.referenceCount; i++) {
+            Object reference = this.references[i];
+            Object otherReference = other.references[i];
+
+            if (reference instanceof BufferedImage) {
+                if (reference != otherReference || !ImmutableTextures.isImmutable((BufferedImage) reference)) {
+                    return false;
+                }
+            } else if (!Objects.equals(reference, otherReference)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Execute all recorded operations on the given render context
+     *
+     * @param context The target render context
+     */
+    public void replay(IRenderContext context) {
+        double[] v = this.values;
+        Object[] r = this.references;
+        int valueIndex = 0;
+        int referenceIndex = 0;
+
+        for (int i = 0; i < this.operationCount; i++) {
+            switch (this.operations[i]) {
+                case DRAW_OUTLINE:
+                    context.drawOutline(v[valueIndex++], v[valueIndex++], v[valueIndex++], v[valueIndex++], (Color) r[referenceIndex++]);
+                    break;
+                case DRAW_RECT:
+                    context.drawRectWH(v[valueIndex++], v[valueIndex++], v[valueIndex++], v[valueIndex++], (Color) r[referenceIndex++]);
+                    break;
+                case DRAW_GRADIENT_RECT:
+                    context.drawGradientRect(v[valueIndex++], v[valueIndex++], v[valueIndex++], v[valueIndex++],
+                            (Color) r[referenceIndex++], v[valueIndex++], v[valueIndex++],
+                            (Color) r[referenceIndex++], v[valueIndex++], v[valueIndex++]);
+                    break;
+                case DRAW_STRING:
+                    context.drawString((String) r[referenceIndex++], v[valueIndex++], v[valueIndex++],
+                            (StringAlignment) r[referenceIndex++], (StringEffect) r[referenceIndex++],
+                            (Color) r[referenceIndex++], (Font) r[referenceIndex++]);
+                    break;
+                case DRAW_IMAGE:
+                    context.drawImage((BufferedImage) r[referenceIndex++], v[valueIndex++], v[valueIndex++], v[valueIndex++], v[valueIndex++]);
+                    break;
+                case TRANSLATE:
+                    context.translate(v[valueIndex++], v[valueIndex++]);
+                    break;
+                case SCALE:
+                    context.scale(v[valueIndex++], v[valueIndex++]);
+                    break;
+                case ROTATE:
+                    context.rotate(v[valueIndex++]);
+                    break;
+                case SET_ALPHA:
+                    context.setAlpha((float) v[valueIndex++]);
+                    break;
+                case DRAW_LAYER:
+                    valueIndex++; // Skip the content version
+                    context.drawLayer((RenderLayer) r[referenceIndex++], v[valueIndex++], v[valueIndex++]);
+                    break;
+                default:
+                    throw new IllegalStateException("Unknown operation " + this.operations[i]);
+            }
+        }
+    }
+
+    public boolean isEmpty() {
+        return this.operationCount == 0;
+    }
+}
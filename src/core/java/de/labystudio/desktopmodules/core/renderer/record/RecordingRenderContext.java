@@ -0,0 +1,186 @@
+package de.labystudio.desktopmodules.core.renderer.record;
+
+import de.labystudio.desktopmodules.core.renderer.IRenderContext;
+import de.labystudio.desktopmodules.core.renderer.font.Font;
+import de.labystudio.desktopmodules.core.renderer.font.StringAlignment;
+import de.labystudio.desktopmodules.core.renderer.font.StringEffect;
+import de.labystudio.desktopmodules.core.renderer.layer.RenderLayer;
+
+import java.awt.Color;
+import java.awt.Rectangle;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.NoninvertibleTransformException;
+import java.awt.image.BufferedImage;
+
+/**
+ * Render context that records all render calls into a display list instead of drawing them.
+ * The display list can be compared with the previous frame and replayed on the actual render context.
+ *
+ * @author LabyStudio
+ */
+public class RecordingRenderContext implements IRenderContext {
+
+    /**
+     * Render context to measure the string widths with
+     */
+    private final IRenderContext measureContext;
+
+    private DisplayList displayList;
+
+    /**
+     * Repainted region of the recorded frame
+     */
+    private Rectangle clip;
+
+    /**
+     * Current transformation of the recorded render calls
+     */
+    private final AffineTransform transform = new AffineTransform();
+
+    /**
+     * Create a recording render context
+     *
+     * @param measureContext Render context to measure the string widths with
+     */
+    public RecordingRenderContext(IRenderContext measureContext) {
+        this.measureContext = measureContext;
+    }
+
+    /**
+     * Clear the given display list and record all following render calls into it
+     *
+     * @param displayList The target display list
+     * @param clip        Repainted region of the frame, the entire frame bounds if the entire frame is repainted
+     */
+    public void begin(DisplayList displayList, Rectangle clip) {
+        this.displayList = displayList;
+        this.displayList.clear();
+        this.clip = clip;
+        this.transform.setToIdentity();
+    }
+
+    @Override
+    public void drawOutline(double left, double top, double right, double bottom, Color color) {
+        this.displayList.operation(DisplayList.DRAW_OUTLINE);
+        this.displayList.value(left);
+        this.displayList.value(top);
+        this.displayList.value(right);
+        this.displayList.value(bottom);
+        this.displayList.reference(color);
+    }
+
+    @Override
+    public void drawRect(double left, double top, double right, double bottom, Color color) {
+        drawRectWH(left, top, right - left, bottom - top, color);
+    }
+
+    @Override
+    public void drawRectWH(double x, double y, double width, double height, Color color) {
+        this.displayList.operation(DisplayList.DRAW_RECT);
+        this.displayList.value(x);
+        this.displayList.value(y);
+        this.displayList.value(width);
+        this.displayList.value(height);
+        this.displayList.reference(color);
+    }
+
+    @Override
+    public void drawGradientRect(double left, double top, double right, double bottom, Color from, double fromX, double fromY, Color to, double toX, double toY) {
+        this.displayList.operation(DisplayList.DRAW_GRADIENT_RECT);
+        this.displayList.value(left);
+        this.displayList.value(top);
+        this.displayList.value(right);
+        this.displayList.value(bottom);
+        this.displayList.reference(from);
+        this.displayList.value(fromX);
+        this.displayList.value(fromY);
+        this.displayList.reference(to);
+        this.displayList.value(toX);
+        this.displayList.value(toY);
+    }
+
+    @Override
+    public void drawString(String text, double x, double y, StringAlignment alignment, StringEffect effect, Color color, Font font) {
+        this.displayList.operation(DisplayList.DRAW_STRING);
+        this.displayList.reference(text);
+        this.displayList.value(x);
+        this.displayList.value(y);
+        this.displayList.reference(alignment);
+        this.displayList.reference(effect);
+        this.displayList.reference(color);
+        this.displayList.reference(font);
+    }
+
+    @Override
+    public void drawString(String text, double width, double offsetX, double y, boolean rightBound, StringEffect effect, Color color, Font font) {
+        drawString(text, rightBound ? width - offsetX : offsetX, y, StringAlignment.from(rightBound), effect, color, font);
+    }
+
+    @Override
+    public int getStringWidth(String text, Font font) {
+        return this.measureContext.getStringWidth(text, font);
+    }
+
+    @Override
+    public void drawImage(BufferedImage image, double x, double y) {
+        drawImage(image, x, y, image.getWidth(), image.getHeight());
+    }
+
+    @Override
+    public void drawImage(BufferedImage image, double x, double y, double width, double height) {
+        this.displayList.operation(DisplayList.DRAW_IMAGE);
+        this.displayList.reference(image);
+        this.displayList.value(x);
+        this.displayList.value(y);
+        this.displayList.value(width);
+        this.displayList.value(height);
+    }
+
+    @Override
+    public void drawLayer(RenderLayer layer, double x, double y) {
+        this.displayList.operation(DisplayList.DRAW_LAYER);
+        this.displayList.value(layer.getVersion()); // Detect changed layer content
+        this.displayList.reference(layer);
+        this.displayList.value(x);
+        this.displayList.value(y);
+    }
+
+    @Override
+    public Rectangle getClipBounds() {
+        // Transform the clip into the current coordinate space
+        try {
+            return this.transform.createInverse().createTransformedShape(this.clip).getBounds();
+        } catch (NoninvertibleTransformException e) {
+            return new Rectangle();
+        }
+    }
+
+    @Override
+    public void translate(double x, double y) {
+        this.displayList.operation(DisplayList.TRANSLATE);
+        this.transform.translate(x, y);
+        this.displayList.value(x);
+        this.displayList.value(y);
+    }
+
+    @Override
+    public void scale(double x, double y) {
+        this.displayList.operation(DisplayList.SCALE);
+        this.transform.scale(x, y);
+        this.displayList.value(x);
+        this.displayList.value(y);
+    }
+
+    @Override
+    public void rotate(double degrees) {
+        this.displayList.operation(DisplayList.ROTATE);
+        this.transform.rotate(degrees);
+        this.displayList.value(degrees);
+    }
+
+    @Override
+    public void setAlpha(float alpha) {
+        this.displayList.operation(DisplayList.SET_ALPHA);
+        this.displayList.value(alpha);
+    }
+}
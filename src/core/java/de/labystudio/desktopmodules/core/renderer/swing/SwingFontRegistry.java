@@ -0,0 +1,109 @@
+package de.labystudio.desktopmodules.core.renderer.swing;
+
+import de.labystudio.desktopmodules.core.renderer.font.Font;
+
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry that maps the font wrapper to a cached AWT font and its metrics.
+ * The string widths of each font are cached as well, because most modules draw the same labels each frame.
+ *
+ * @author LabyStudio
+ */
+public class SwingFontRegistry {
+
+    /**
+     * Maximum amount of cached string widths per font
+     */
+    private static final int MAX_CACHED_WIDTHS = 512;
+
+    private final Map<Font, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Graphics instance to create the font metrics with the same rendering hints as the render context
+     */
+    private final Graphics2D metricsGraphics;
+
+    public SwingFontRegistry() {
+        this.metricsGraphics = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB).createGraphics();
+        SwingRenderContext.applyRenderingHints(this.metricsGraphics);
+    }
+
+    /**
+     * Get the cached entry of the given font
+     *
+     * @param font Font wrapper
+     * @return Cached AWT font and metrics
+     */
+    public Entry get(Font font) {
+        Entry entry = this.entries.get(font);
+        return entry != null ? entry : this.entries.computeIfAbsent(font, this::create);
+    }
+
+    /**
+     * Create the AWT font and metrics of the given font
+     *
+     * @param font Font wrapper
+     * @return Created entry
+     */
+    private Entry create(Font font) {
+        java.awt.Font awtFont = new java.awt.Font(font.getFontFamily(), font.getStyle().ordinal(), font.getSize());
+
+        synchronized (this.metricsGraphics) {
+            return new Entry(awtFont, this.metricsGraphics.getFontMetrics(awtFont));
+        }
+    }
+
+    /**
+     * Cached AWT font and metrics of a font
+     */
+    public static class Entry {
+
+        private final java.awt.Font font;
+        private final FontMetrics metrics;
+
+        /**
+         * String widths in least recently used order
+         */
+        private final Map<String, Integer> widths = new LinkedHashMap<String, Integer>(16, 0.75F, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Integer> eldest) {
+                return size() > MAX_CACHED_WIDTHS;
+            }
+        };
+
+        private Entry(java.awt.Font font, FontMetrics metrics) {
+            this.font = font;
+            this.metrics = metrics;
+        }
+
+        /**
+         * Get the cached width of the given text
+         *
+         * @param text The string
+         * @return The string width in pixel
+         */
+        public int getStringWidth(String text) {
+            synchronized (this.widths) {
+                Integer width = this.widths.get(text);
+                if (width == null) {
+                    this.widths.put(text, width = this.metrics.stringWidth(text));
+                }
+                return width;
+            }
+        }
+
+        public java.awt.Font getFont() {
+            return this.font;
+        }
+
+        public FontMetrics getMetrics() {
+            return this.metrics;
+        }
+    }
+}
@@ -0,0 +1,272 @@
+package de.labystudio.desktopmodules.core.renderer.swing;
+
+import de.labystudio.desktopmodules.core.metrics.ModuleMetrics;
+import de.labystudio.desktopmodules.core.module.render.IModuleRenderer;
+import de.labystudio.desktopmodules.core.module.render.IRenderCallback;
+import de.labystudio.desktopmodules.core.renderer.raster.RasterRenderContext;
+import de.labystudio.desktopmodules.core.renderer.record.DisplayList;
+import de.labystudio.desktopmodules.core.renderer.record.RecordingRenderContext;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.Point;
+import java.awt.Rectangle;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+
+/**
+ * Frame recording and back buffer of a single module.
+ * <p>
+ * Each frame is recorded into a display list first. If the display list is identical to the
+ * presented frame, the repaint is skipped. The presented display list is replayed into the back buffer
+ * on paint. Frames of damaged regions only replay the damaged region.
+ * The frames are only recorded by the frame scheduler, painting never calls back into the module.
+ * <p>
+ * With software rendering, the frames are replayed by the {@link RasterRenderContext} directly into the pixels of the back buffer.
+ *
+ * @author LabyStudio
+ */
+public class SwingFrameBuffer {
+
+    private final IModuleRenderer moduleRenderer;
+    private final IRenderCallback renderCallback;
+
+    /**
+     * Display list recording of the module frames
+     */
+    private final RecordingRenderContext recordingContext = new RecordingRenderContext(new SwingRenderContext());
+    private final SwingRenderContext renderContext = new SwingRenderContext();
+
+    /**
+     * Software rasterizer or null to replay the frames using Java2D
+     */
+    private final RasterRenderContext rasterContext;
+    private final Object frameLock = new Object();
+
+    private DisplayList recordedFrame = new DisplayList();
+    private DisplayList presentedFrame = new DisplayList();
+    private boolean framePresented;
+
+    /**
+     * Repainted region of the presented frame
+     */
+    private Rectangle presentedClip;
+
+    /**
+     * The presented frame was not drawn into the back buffer yet
+     */
+    private boolean framePending;
+
+    private BufferedImage buffer;
+
+    private ModuleMetrics metrics = new ModuleMetrics();
+
+    /**
+     * Mouse position of the event dispatch thread, replaced as a whole to read both coordinates consistently
+     */
+    private volatile Point mousePosition = new Point();
+
+    /**
+     * Create a frame buffer for the given module renderer
+     *
+     * @param moduleRenderer Module renderer to get the frame size from
+     * @param renderCallback Render callback
+     */
+    public SwingFrameBuffer(IModuleRenderer moduleRenderer, IRenderCallback renderCallback) {
+        this(moduleRenderer, renderCallback, false);
+    }
+
+    /**
+     * Create a frame buffer for the given module renderer
+     *
+     * @param moduleRenderer    Module renderer to get the frame size from
+     * @param renderCallback    Render callback
+     * @param softwareRendering Replay the frames using the software rasterizer
+     */
+    public SwingFrameBuffer(IModuleRenderer moduleRenderer, IRenderCallback renderCallback, boolean softwareRendering) {
+        this.moduleRenderer = moduleRenderer;
+        this.renderCallback = renderCallback;
+        this.rasterContext = softwareRendering ? new RasterRenderContext() : null;
+    }
+
+    /**
+     * Record a new frame of the damaged region and replace the presented frame if it changed
+     *
+     * @param clip  The damaged region
+     * @param force Replace the presented frame even if it is identical
+     * @return The region to repaint or null if the presented frame has not been replaced
+     */
+    public Rectangle present(Rectangle clip, boolean force) {
+        synchronized (this.frameLock) {
+            // The region of the previous frame is still outdated if it was not drawn yet
+            if (this.framePending) {
+                clip.add(this.presentedClip);
+            }
+
+            if (!recordFrame(this.recordedFrame, clip)) {
+                return null;
+            }
+
+            // Skip the repaint if nothing changed
+            if (!force && this.framePresented && clip.equals(this.presentedClip)
+                    && this.recordedFrame.contentEquals(this.presentedFrame)) {
+                this.metrics.recordSkippedFrame();
+                return null;
+            }
+
+            // Swap the recorded frame with the presented frame
+            DisplayList presentedFrame = this.presentedFrame;
+            this.presentedFrame = this.recordedFrame;
+            this.recordedFrame = presentedFrame;
+            this.presentedClip = clip;
+            this.framePresented = true;
+            this.framePending = true;
+
+            this.metrics.recordProducedFrame();
+            return clip;
+        }
+    }
+
+    /**
+     * Record the render calls of the module into the given display list
+     *
+     * @param displayList The target display list
+     * @param clip        The repainted region of the frame
+     * @return The frame was recorded successfully
+     */
+    private boolean recordFrame(DisplayList displayList, Rectangle clip) {
+        int width = this.moduleRenderer.getWidth();
+        int height = this.moduleRenderer.getHeight();
+
+        this.recordingContext.begin(displayList, clip);
+
+        // Call render callback
+        Point mouse = this.mousePosition;
+        long start = System.nanoTime();
+        try {
+            this.renderCallback.onRender(this.recordingContext, width, height, mouse.x, mouse.y, this.renderCallback.getPartialTicks());
+            return true;
+        } catch (Exception e) {
+            e.printStackTrace();
+            this.metrics.recordException();
+            return false;
+        } finally {
+            this.metrics.recordRender(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Update the back buffer with the presented frame and draw it at the given position
+     *
+     * @param graphics The target graphics
+     * @param x        X position of the module on the target graphics
+     * @param y        Y position of the module on the target graphics
+     */
+    public void paint(Graphics2D graphics, int x, int y) {
+        int width = this.moduleRenderer.getWidth();
+        int height = this.moduleRenderer.getHeight();
+        if (width <= 0 || height <= 0) {
+            return;
+        }
+
+        synchronized (this.frameLock) {
+            // Create a new back buffer on size changes
+            boolean restore = false;
+            if (this.buffer == null || this.buffer.getWidth() != width || this.buffer.getHeight() != height) {
+                this.buffer = this.rasterContext != null ? new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB_PRE)
+                        : graphics.getDeviceConfiguration().createCompatibleImage(width, height, Transparency.TRANSLUCENT);
+                restore = true;
+            }
+
+            // Draw the recorded frame of the module into the back buffer
+            replayFrame(restore);
+
+            graphics.drawImage(this.buffer, x, y, null);
+        }
+    }
+
+    /**
+     * Draw the presented frame into the back buffer.
+     * Only the repainted region of the frame is drawn unless the entire buffer has to be restored.
+     * The module is never rendered here, a restored buffer replays the last recorded frame
+     * and requests an entire frame from the scheduler if the recorded frame doesn't cover the buffer.
+     *
+     * @param restore The buffer is new and the entire frame has to be drawn
+     */
+    private void replayFrame(boolean restore) {
+        Rectangle bounds = new Rectangle(0, 0, this.buffer.getWidth(), this.buffer.getHeight());
+
+        // The window is painted before the first frame or the presented frame doesn't cover the restored buffer
+        if (!this.framePresented || restore && !this.presentedClip.contains(bounds)) {
+            this.moduleRenderer.invalidateFrame();
+            this.renderCallback.scheduleFrame();
+        }
+
+        if (!this.framePresented) {
+            return;
+        }
+
+        // Replay the last recorded frame into the entire restored buffer
+        if (restore) {
+            this.presentedClip = bounds;
+        }
+
+        if (!this.framePending && !restore) {
+            return;
+        }
+        this.framePending = false;
+
+        // Rasterize the frame directly into the pixels of the back buffer
+        if (this.rasterContext != null) {
+            this.rasterContext.begin(this.buffer, this.presentedClip);
+            try {
+                this.rasterContext.clear();
+                this.presentedFrame.replay(this.rasterContext);
+            } finally {
+                this.rasterContext.end();
+            }
+            return;
+        }
+
+        Graphics2D graphics = this.buffer.createGraphics();
+        try {
+            graphics.clip(this.presentedClip);
+
+            // Clear the previous content of the region
+            graphics.setComposite(AlphaComposite.Clear);
+            graphics.fill(this.presentedClip);
+            graphics.setComposite(AlphaComposite.SrcOver);
+
+            this.renderContext.updateGraphics(graphics);
+            this.presentedFrame.replay(this.renderContext);
+        } finally {
+            graphics.dispose();
+        }
+    }
+
+    /**
+     * Update the mouse position that is passed to the render callback
+     *
+     * @param mouseX Mouse x position relative to the module position
+     * @param mouseY Mouse y position relative to the module position
+     */
+    public void setMousePosition(int mouseX, int mouseY) {
+        this.mousePosition = new Point(mouseX, mouseY);
+    }
+
+    public void setMetrics(ModuleMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    public ModuleMetrics getMetrics() {
+        return this.metrics;
+    }
+
+    public int getMouseX() {
+        return this.mousePosition.x;
+    }
+
+    public int getMouseY() {
+        return this.mousePosition.y;
+    }
+}
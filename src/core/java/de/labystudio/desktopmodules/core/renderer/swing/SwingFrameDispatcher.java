@@ -0,0 +1,251 @@
+package de.labystudio.desktopmodules.core.renderer.swing;
+
+import java.awt.Component;
+import java.awt.EventQueue;
+import java.awt.Rectangle;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Collects the window operations of all module renderers and applies them in a single batch on the event dispatch thread.
+ * Only the latest operation of each kind is applied for each window and repainted regions are merged.
+ * The z-order of the windows is changed last, in the order the z-order operations were submitted.
+ * <p>
+ * While a batch is open, e.g. during the frame updates of the scheduler, all operations are collected
+ * and applied together after the batch is closed. Operations outside of a batch are applied with the next event.
+ * Operations of the event dispatch thread itself are applied immediately.
+ *
+ * @author LabyStudio
+ */
+public class SwingFrameDispatcher {
+
+    /**
+     * Pending operations of each window in the order of their first operation
+     */
+    private final Map<Component, PendingOperations> pending = new LinkedHashMap<>();
+
+    /**
+     * Pending z-order operations in the order they were submitted, the last window ends up on top
+     */
+    private final Map<Component, Runnable> pendingZOrder = new LinkedHashMap<>();
+
+    /**
+     * Depth of the open batches
+     */
+    private int batchDepth;
+
+    /**
+     * The batch is already posted to the event queue
+     */
+    private boolean scheduled;
+
+    /**
+     * Collect all following operations until {@link #endBatch()} is called
+     */
+    public synchronized void beginBatch() {
+        this.batchDepth++;
+    }
+
+    /**
+     * Apply all operations that were collected since {@link #beginBatch()} in a single event
+     */
+    public synchronized void endBatch() {
+        if (this.batchDepth > 0) {
+            this.batchDepth--;
+        }
+        schedule();
+    }
+
+    /**
+     * Change the location of the given window
+     *
+     * @param component The window
+     * @param operation Applies the location to the window
+     */
+    public void setLocation(Component component, Runnable operation) {
+        submit(component, Operation.LOCATION, operation);
+    }
+
+    /**
+     * Change the visibility of the given window
+     *
+     * @param component The window
+     * @param operation Applies the visibility to the window
+     */
+    public void setVisible(Component component, Runnable operation) {
+        submit(component, Operation.VISIBILITY, operation);
+    }
+
+    /**
+     * Change the shape of the given window
+     *
+     * @param component The window
+     * @param operation Applies the shape to the window
+     */
+    public void setShape(Component component, Runnable operation) {
+        submit(component, Operation.SHAPE, operation);
+    }
+
+    /**
+     * Change the z-order of the given window
+     *
+     * @param component The window
+     * @param operation Applies the z-order to the window, e.g. {@link java.awt.Window#toFront()}
+     */
+    public void setZOrder(Component component, Runnable operation) {
+        if (EventQueue.isDispatchThread() && isIdle()) {
+            // The pending operation is outdated
+            synchronized (this) {
+                this.pendingZOrder.remove(component);
+            }
+
+            operation.run();
+            return;
+        }
+
+        synchronized (this) {
+            // Move the window to the end of the submission order
+            this.pendingZOrder.remove(component);
+            this.pendingZOrder.put(component, operation);
+            schedule();
+        }
+    }
+
+    /**
+     * Repaint a region of the given component
+     *
+     * @param component The component to repaint
+     * @param region    The region to repaint relative to the component
+     */
+    public void repaint(Component component, Rectangle region) {
+        if (EventQueue.isDispatchThread() && isIdle()) {
+            component.repaint(region.x, region.y, region.width, region.height);
+            return;
+        }
+
+        synchronized (this) {
+            PendingOperations operations = this.pending.computeIfAbsent(component, key -> new PendingOperations());
+            if (operations.repaint == null) {
+                operations.repaint = new Rectangle(region);
+            } else {
+                operations.repaint.add(region);
+            }
+            schedule();
+        }
+    }
+
+    /**
+     * Submit an operation that replaces the pending operation of the same kind
+     *
+     * @param component The window
+     * @param kind      Kind of the operation
+     * @param operation The operation to apply
+     */
+    private void submit(Component component, Operation kind, Runnable operation) {
+        if (EventQueue.isDispatchThread() && isIdle()) {
+            // The pending operation of the same kind is outdated
+            synchronized (this) {
+                PendingOperations operations = this.pending.get(component);
+                if (operations != null) {
+                    operations.operations[kind.ordinal()] = null;
+                }
+            }
+
+            operation.run();
+            return;
+        }
+
+        synchronized (this) {
+            this.pending.computeIfAbsent(component, key -> new PendingOperations()).operations[kind.ordinal()] = operation;
+            schedule();
+        }
+    }
+
+    /**
+     * Is there no open batch
+     *
+     * @return Operations can be applied immediately
+     */
+    private synchronized boolean isIdle() {
+        return this.batchDepth == 0;
+    }
+
+    /**
+     * Post the pending operations to the event queue if there is no open batch
+     */
+    private synchronized void schedule() {
+        if (this.batchDepth == 0 && !this.scheduled && (!this.pending.isEmpty() || !this.pendingZOrder.isEmpty())) {
+            this.scheduled = true;
+            EventQueue.invokeLater(this::dispatch);
+        }
+    }
+
+    /**
+     * Apply all pending operations on the event dispatch thread
+     */
+    private void dispatch() {
+        List<Map.Entry<Component, PendingOperations>> entries;
+        List<Runnable> zOrder;
+        synchronized (this) {
+            entries = new ArrayList<>(this.pending.entrySet());
+            zOrder = new ArrayList<>(this.pendingZOrder.values());
+            this.pending.clear();
+            this.pendingZOrder.clear();
+            this.scheduled = false;
+        }
+
+        for (Map.Entry<Component, PendingOperations> entry : entries) {
+            Component component = entry.getKey();
+            PendingOperations operations = entry.getValue();
+
+            try {
+                run(operations, Operation.LOCATION);
+                run(operations, Operation.SHAPE);
+                run(operations, Operation.VISIBILITY);
+
+                // Repaint after the window was moved and shown
+                Rectangle region = operations.repaint;
+                if (region != null) {
+                    component.repaint(region.x, region.y, region.width, region.height);
+                }
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+
+        // Restack the windows after all windows were moved and shown
+        for (Runnable operation : zOrder) {
+            try {
+                operation.run();
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    private void run(PendingOperations operations, Operation kind) {
+        Runnable operation = operations.operations[kind.ordinal()];
+        if (operation != null) {
+            operation.run();
+        }
+    }
+
+    /**
+     * Kind of a window operation in the order they are applied, the z-order is applied separately
+     */
+    private enum Operation {
+        LOCATION,
+        SHAPE,
+        VISIBILITY
+    }
+
+    /**
+     * Pending operations of a single window
+     */
+    private static class PendingOperations {
+        private final Runnable[] operations = new Runnable[Operation.values().length];
+        private Rectangle repaint;
+    }
+}
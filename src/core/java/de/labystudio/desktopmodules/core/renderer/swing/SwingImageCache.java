@@ -0,0 +1,192 @@
+package de.labystudio.desktopmodules.core.renderer.swing;
+
+import de.labystudio.desktopmodules.core.loader.ImmutableTextures;
+import de.labystudio.desktopmodules.core.loader.TextureFormat;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+/**
+ * Cache of pre-scaled display compatible copies of images.
+ * Most modules draw the same scaled textures each frame, so the bilinear filtering is only done once per size.
+ * Only textures of the texture loader are cached, because they are marked as {@link ImmutableTextures}.
+ * All other images can be modified in place by the addons and have to be scaled on each draw.
+ * <p>
+ * The least recently used copies are evicted when the total size of all copies exceeds the byte limit.
+ *
+ * @author LabyStudio
+ */
+public class SwingImageCache {
+
+    /**
+     * Default limit of the total size of all cached copies
+     */
+    public static final long DEFAULT_MAX_BYTES = 32L * 1024 * 1024;
+
+    private final long maxBytes;
+
+    /**
+     * Scaled copies in least recently used order
+     */
+    private final LinkedHashMap<Key, BufferedImage> images = new LinkedHashMap<>(16, 0.75F, true);
+
+    /**
+     * Queue of the keys whose source image was collected
+     */
+    private final ReferenceQueue<BufferedImage> collectedQueue = new ReferenceQueue<>();
+
+    private long totalBytes;
+
+    public SwingImageCache() {
+        this(DEFAULT_MAX_BYTES);
+    }
+
+    /**
+     * Create an image cache with the given size limit
+     *
+     * @param maxBytes Maximum total size of all cached copies in bytes
+     */
+    public SwingImageCache(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Get or create a copy of the given image with the given size
+     *
+     * @param image         The source image
+     * @param width         Width of the copy in device pixels
+     * @param height        Height of the copy in device pixels
+     * @param configuration Graphics configuration to create a compatible copy for or null for the texture format
+     * @return The scaled copy or null if the image is not an immutable texture or too large to be cached
+     */
+    public synchronized BufferedImage get(BufferedImage image, int width, int height, GraphicsConfiguration configuration) {
+        long bytes = (long) width * height * 4;
+        if (width <= 0 || height <= 0 || bytes > this.maxBytes / 4 || !ImmutableTextures.isImmutable(image)) {
+            return null;
+        }
+
+        expungeCollected();
+
+        BufferedImage scaled = this.images.get(new Key(image, width, height, null));
+        if (scaled == null) {
+            scaled = scale(image, width, height, configuration);
+
+            this.images.put(new Key(image, width, height, this.collectedQueue), scaled);
+            this.totalBytes += bytes;
+            evict();
+        }
+        return scaled;
+    }
+
+    /**
+     * Remove the least recently used copies until the cache fits its limit
+     */
+    private void evict() {
+        Iterator<Key> iterator = this.images.keySet().iterator();
+        while (this.totalBytes > this.maxBytes && iterator.hasNext()) {
+            Key key = iterator.next();
+            this.totalBytes -= key.getBytes();
+            iterator.remove();
+        }
+    }
+
+    /**
+     * Remove the copies of images that were collected by the garbage collector
+     */
+    private void expungeCollected() {
+        Object reference;
+        while ((reference = this.collectedQueue.poll()) != null) {
+            Key key = (Key) reference;
+            if (this.images.remove(key) != null) {
+                this.totalBytes -= key.getBytes();
+            }
+        }
+    }
+
+    /**
+     * Remove all cached copies
+     */
+    public synchronized void clear() {
+        this.images.clear();
+        this.totalBytes = 0;
+    }
+
+    /**
+     * Create a scaled copy of the given image
+     *
+     * @param image         The source image
+     * @param width         Width of the copy
+     * @param height        Height of the copy
+     * @param configuration Graphics configuration to create a compatible copy for or null for the texture format
+     * @return The scaled copy
+     */
+    private BufferedImage scale(BufferedImage image, int width, int height, GraphicsConfiguration configuration) {
+        BufferedImage scaled = configuration == null ? TextureFormat.create(width, height)
+                : configuration.createCompatibleImage(width, height, Transparency.TRANSLUCENT);
+
+        Graphics2D graphics = scaled.createGraphics();
+        try {
+            graphics.setComposite(AlphaComposite.Src);
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(image, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+
+        return scaled;
+    }
+
+    public synchronized long getTotalBytes() {
+        return this.totalBytes;
+    }
+
+    /**
+     * Cache key of an image by identity and size.
+     * The image is weakly referenced to not keep unused images alive.
+     */
+    private static class Key extends WeakReference<BufferedImage> {
+
+        private final int width;
+        private final int height;
+        private final int hash;
+
+        private Key(BufferedImage image, int width, int height, ReferenceQueue<BufferedImage> queue) {
+            super(image, queue);
+            this.width = width;
+            this.height = height;
+            this.hash = (System.identityHashCode(image) * 31 + width) * 31 + height;
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            if (this == object) {
+                return true;
+            }
+            if (!(object instanceof Key)) {
+                return false;
+            }
+
+            Key key = (Key) object;
+            BufferedImage image = get();
+            return image != null && image == key.get() && this.width == key.width && this.height == key.height;
+        }
+
+        private long getBytes() {
+            return (long) this.width * this.height * 4;
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+    }
+}
@@ -1,11 +1,15 @@
 package de.labystudio.desktopmodules.core.renderer.swing;
 
+import de.labystudio.desktopmodules.core.metrics.ModuleMetrics;
+import de.labystudio.desktopmodules.core.module.render.FrameDamage;
 import de.labystudio.desktopmodules.core.module.render.IModuleRenderer;
 import de.labystudio.desktopmodules.core.module.render.IRenderCallback;
 import de.labystudio.desktopmodules.core.renderer.IScreenBounds;
 
 import javax.swing.JDialog;
 import java.awt.Color;
+import java.awt.Point;
+import java.awt.Rectangle;
 import java.awt.event.MouseEvent;
 import java.awt.event.MouseListener;
 import java.awt.event.MouseMotionListener;
@@ -15,25 +19,37 @@ import java.awt.event.MouseWheelListener;
 /**
  * Swing implementation of the module renderer
  * Each module renderer creates a JDialog/window frame
+ * <p>
+ * Each frame is recorded into the {@link SwingFrameBuffer} of the module and only the damaged region is repainted.
+ * All window operations are applied by the {@link SwingFrameDispatcher} in one batch per frame.
  *
  * @author LabyStudio
  */
 public class SwingModuleRenderer extends JDialog implements IModuleRenderer,
         MouseListener, MouseMotionListener, MouseWheelListener {
 
-    private static final long TO_FONT_PERIOD_MS = 1000 * 3;
-
     protected final int width;
     protected final int height;
 
     private final SwingCanvasRender canvas;
     private final IRenderCallback renderCallback;
 
-    private long lastToFontCall = -1L;
+    private final FrameDamage frameDamage = new FrameDamage();
+    private final SwingFrameBuffer frameBuffer;
+    private final SwingFrameDispatcher frameDispatcher;
 
-    private boolean mouseOver;
-    private int mouseX;
-    private int mouseY;
+    /**
+     * The next frame is presented even if it is identical to the current frame
+     */
+    private volatile boolean frameRequested;
+
+    /**
+     * Requested visibility and location that might not be applied to the window yet
+     */
+    private volatile boolean visible;
+    private volatile Point pendingLocation;
+
+    private volatile boolean mouseOver;
 
     /**
      * Create new swing module renderer
@@ -43,9 +59,52 @@ public class SwingModuleRenderer extends JDialog implements IModuleRenderer,
      * @param height         Module height
      */
     public SwingModuleRenderer(IRenderCallback renderCallback, int width, int height) {
+        this(renderCallback, width, height, false);
+    }
+
+    /**
+     * Create new swing module renderer
+     *
+     * @param renderCallback    Render callback
+     * @param width             Module width
+     * @param height            Module height
+     * @param softwareRendering Rasterize the frames in software instead of using Java2D
+     */
+    public SwingModuleRenderer(IRenderCallback renderCallback, int width, int height, boolean softwareRendering) {
+        this(renderCallback, width, height, softwareRendering, new SwingFrameDispatcher());
+    }
+
+    /**
+     * Create new swing module renderer
+     *
+     * @param renderCallback    Render callback
+     * @param width             Module width
+     * @param height            Module height
+     * @param softwareRendering Rasterize the frames in software instead of using Java2D
+     * @param frameDispatcher   Applies the window operations in one batch per frame
+     */
+    public SwingModuleRenderer(IRenderCallback renderCallback, int width, int height, boolean softwareRendering,
+                               SwingFrameDispatcher frameDispatcher) {
+        this(renderCallback, width, height, softwareRendering, frameDispatcher, new SwingZOrderKeeper(frameDispatcher));
+    }
+
+    /**
+     * Create new swing module renderer
+     *
+     * @param renderCallback    Render callback
+     * @param width             Module width
+     * @param height            Module height
+     * @param softwareRendering Rasterize the frames in software instead of using Java2D
+     * @param frameDispatcher   Applies the window operations in one batch per frame
+     * @param zOrderKeeper      Keeps the window over the taskbar
+     */
+    public SwingModuleRenderer(IRenderCallback renderCallback, int width, int height, boolean softwareRendering,
+                               SwingFrameDispatcher frameDispatcher, SwingZOrderKeeper zOrderKeeper) {
         this.renderCallback = renderCallback;
+        this.frameDispatcher = frameDispatcher;
         this.width = width;
         this.height = height;
+        this.frameBuffer = new SwingFrameBuffer(this, renderCallback, softwareRendering);
 
         // Canvas
         this.setContentPane(this.canvas = new SwingCanvasRender(this));
@@ -62,8 +121,8 @@ public class SwingModuleRenderer extends JDialog implements IModuleRenderer,
         this.setFocusableWindowState(false);
         this.setAutoRequestFocus(false);
 
-        // Show
-        this.toFront();
+        // Keep the window on top once it is shown
+        zOrderKeeper.register(this);
 
         // Listener
         this.addMouseListener(this);
@@ -73,30 +132,110 @@ public class SwingModuleRenderer extends JDialog implements IModuleRenderer,
 
     @Override
     public void requestFrame() {
-        this.canvas.repaint();
+        invalidateFrame();
+        this.frameRequested = true;
+        this.renderCallback.scheduleFrame();
+    }
+
+    @Override
+    public void requestFrame(int x, int y, int width, int height) {
+        invalidateFrame(x, y, width, height);
+        this.frameRequested = true;
+        this.renderCallback.scheduleFrame();
+    }
+
+    @Override
+    public void invalidateFrame() {
+        this.frameDamage.invalidate();
+    }
+
+    @Override
+    public void invalidateFrame(int x, int y, int width, int height) {
+        this.frameDamage.invalidate(x, y, width, height);
+    }
+
+    @Override
+    public boolean isFrameInvalid() {
+        return this.frameDamage.isInvalid();
+    }
+
+    @Override
+    public void updateFrame() {
+        boolean force = this.frameRequested;
+        this.frameRequested = false;
+
+        updateFrame(force);
+    }
+
+    /**
+     * Produce a new frame if the current frame is invalid
+     *
+     * @param force Repaint even if the recorded frame is identical to the presented frame
+     */
+    private void updateFrame(boolean force) {
+        // Repaint only the damaged region
+        Rectangle clip = this.frameDamage.take(getWidth(), getHeight());
+        if (clip != null) {
+            clip = this.frameBuffer.present(clip, force);
+            if (clip != null) {
+                this.frameDispatcher.repaint(this.canvas, clip);
+            }
+        } else {
+            this.frameBuffer.getMetrics().recordSkippedFrame();
+        }
 
         // Make visible
-        if (!this.isVisible()) {
+        if (!this.visible) {
             this.setVisible(true);
         }
+    }
 
-        // The window will no longer be on top of you click on the taskbar
-        if (this.lastToFontCall + TO_FONT_PERIOD_MS < System.currentTimeMillis()) {
-            this.lastToFontCall = System.currentTimeMillis();
-
-            // Keep it over the taskbar
-            this.toFront();
+    @Override
+    public void setVisible(boolean visible) {
+        // Called by the super constructor
+        if (this.frameDispatcher == null) {
+            super.setVisible(visible);
+            return;
         }
+
+        this.visible = visible;
+        this.frameDispatcher.setVisible(this, () -> super.setVisible(visible));
     }
 
     @Override
     public void setLocation(int x, int y) {
-        super.setLocation(x, y);
+        // Called by the super constructor
+        if (this.frameDispatcher == null) {
+            super.setLocation(x, y);
+            return;
+        }
+
+        Point location = new Point(x, y);
+        this.pendingLocation = location;
+
+        this.frameDispatcher.setLocation(this, () -> {
+            super.setLocation(location.x, location.y);
+
+            // The location is applied unless there is already a newer one
+            if (this.pendingLocation == location) {
+                this.pendingLocation = null;
+            }
+        });
 
         // Repaint on position change
-        if (this.canvas != null) {
-            this.canvas.repaint();
-        }
+        this.frameDispatcher.repaint(this.canvas, new Rectangle(0, 0, this.width, this.height));
+    }
+
+    @Override
+    public int getX() {
+        Point location = this.pendingLocation;
+        return location == null ? super.getX() : location.x;
+    }
+
+    @Override
+    public int getY() {
+        Point location = this.pendingLocation;
+        return location == null ? super.getY() : location.y;
     }
 
     @Override
@@ -132,15 +271,21 @@ public class SwingModuleRenderer extends JDialog implements IModuleRenderer,
     @Override
     public void mouseEntered(MouseEvent event) {
         this.mouseOver = true;
-        this.mouseX = event.getX();
-        this.mouseY = event.getY();
+        this.frameBuffer.setMousePosition(event.getX(), event.getY());
+
+        // Repaint on hover state change
+        invalidateFrame();
+        this.renderCallback.scheduleFrame();
     }
 
     @Override
     public void mouseExited(MouseEvent event) {
         this.mouseOver = false;
-        this.mouseX = event.getX();
-        this.mouseY = event.getY();
+        this.frameBuffer.setMousePosition(event.getX(), event.getY());
+
+        // Repaint on hover state change
+        invalidateFrame();
+        this.renderCallback.scheduleFrame();
     }
 
     @Override
@@ -155,8 +300,24 @@ public class SwingModuleRenderer extends JDialog implements IModuleRenderer,
 
     @Override
     public void mouseMoved(MouseEvent event) {
-        this.mouseX = event.getX();
-        this.mouseY = event.getY();
+        this.frameBuffer.setMousePosition(event.getX(), event.getY());
+
+        // Repaint on mouse position change
+        invalidateFrame();
+        this.renderCallback.scheduleFrame();
+    }
+
+    @Override
+    public void setMetrics(ModuleMetrics metrics) {
+        this.frameBuffer.setMetrics(metrics);
+    }
+
+    public ModuleMetrics getMetrics() {
+        return this.frameBuffer.getMetrics();
+    }
+
+    public SwingFrameBuffer getFrameBuffer() {
+        return this.frameBuffer;
     }
 
     public IRenderCallback getRenderCallback() {
@@ -164,10 +325,10 @@ public class SwingModuleRenderer extends JDialog implements IModuleRenderer,
     }
 
     public int getMouseX() {
-        return this.mouseX;
+        return this.frameBuffer.getMouseX();
     }
 
     public int getMouseY() {
-        return this.mouseY;
+        return this.frameBuffer.getMouseY();
     }
 }
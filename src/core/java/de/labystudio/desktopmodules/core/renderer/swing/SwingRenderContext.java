@@ -1,15 +1,20 @@
 package de.labystudio.desktopmodules.core.renderer.swing;
 
+import de.labystudio.desktopmodules.core.loader.MipmappedImage;
 import de.labystudio.desktopmodules.core.renderer.IRenderContext;
 import de.labystudio.desktopmodules.core.renderer.font.Font;
 import de.labystudio.desktopmodules.core.renderer.font.StringAlignment;
 import de.labystudio.desktopmodules.core.renderer.font.StringEffect;
+import de.labystudio.desktopmodules.core.renderer.layer.RenderLayer;
 
 import java.awt.*;
 import java.awt.geom.AffineTransform;
 import java.awt.geom.Point2D;
 import java.awt.geom.Rectangle2D;
 import java.awt.image.BufferedImage;
+import java.awt.image.VolatileImage;
+import java.util.Map;
+import java.util.WeakHashMap;
 
 
 /**
@@ -19,6 +24,21 @@ import java.awt.image.BufferedImage;
  */
 public class SwingRenderContext implements IRenderContext {
 
+    /**
+     * Fonts and metrics shared by all render contexts
+     */
+    private static final SwingFontRegistry FONT_REGISTRY = new SwingFontRegistry();
+
+    /**
+     * Pre-scaled images shared by all render contexts
+     */
+    private static final SwingImageCache IMAGE_CACHE = new SwingImageCache();
+
+    /**
+     * Accelerated image caches of the drawn layers
+     */
+    private final Map<RenderLayer, LayerImage> layerImages = new WeakHashMap<>();
+
     private Graphics2D graphics;
 
     /**
@@ -29,6 +49,15 @@ public class SwingRenderContext implements IRenderContext {
     public void updateGraphics(Graphics2D graphics) {
         this.graphics = graphics;
 
+        applyRenderingHints(graphics);
+    }
+
+    /**
+     * Apply the rendering hints of the render context to the given graphics instance
+     *
+     * @param graphics Graphics instance to configure
+     */
+    public static void applyRenderingHints(Graphics2D graphics) {
         graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
         graphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
         graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
@@ -62,11 +91,10 @@ public class SwingRenderContext implements IRenderContext {
 
     @Override
     public void drawString(String text, double x, double y, StringAlignment alignment, StringEffect effect, Color color, Font font) {
-        setFont(font);
-
-        FontMetrics fontMetrics = this.graphics.getFontMetrics();
+        SwingFontRegistry.Entry entry = FONT_REGISTRY.get(font);
+        this.graphics.setFont(entry.getFont());
 
-        int textWidth = fontMetrics.stringWidth(text);
+        int textWidth = alignment == StringAlignment.LEFT ? 0 : entry.getStringWidth(text);
         int xOffset = alignment == StringAlignment.CENTERED ? textWidth / 2 : alignment == StringAlignment.RIGHT ? textWidth : 0;
 
         // Draw effects
@@ -87,8 +115,7 @@ public class SwingRenderContext implements IRenderContext {
 
     @Override
     public int getStringWidth(String text, Font font) {
-        setFont(font);
-        return this.graphics.getFontMetrics().stringWidth(text);
+        return FONT_REGISTRY.get(font).getStringWidth(text);
     }
 
     @Override
@@ -98,12 +125,106 @@ public class SwingRenderContext implements IRenderContext {
 
     @Override
     public void drawImage(BufferedImage image, double x, double y, double width, double height) {
+        AffineTransform current = this.graphics.getTransform();
+
+        // Use the nearest level of mipmapped images for the effective scale, e.g. when zoomed or on HiDPI screens
+        if (image instanceof MipmappedImage) {
+            double scaleX = Math.hypot(current.getScaleX(), current.getShearY());
+            double scaleY = Math.hypot(current.getShearX(), current.getScaleY());
+            image = ((MipmappedImage) image).getLevel(width * scaleX, height * scaleY);
+        }
+
+        // Draw a pre-scaled copy of loaded textures if the image is only translated and scaled
+        if ((current.getType() & ~(AffineTransform.TYPE_TRANSLATION | AffineTransform.TYPE_MASK_SCALE)) == 0) {
+            int deviceWidth = (int) Math.round(width * current.getScaleX());
+            int deviceHeight = (int) Math.round(height * current.getScaleY());
+
+            // Unscaled images don't need a copy
+            BufferedImage scaled = deviceWidth == image.getWidth() && deviceHeight == image.getHeight() ? image
+                    : IMAGE_CACHE.get(image, deviceWidth, deviceHeight, this.graphics.getDeviceConfiguration());
+            if (scaled != null) {
+                AffineTransform transform = new AffineTransform();
+                transform.translate(x, y);
+                transform.scale(width / deviceWidth, height / deviceHeight);
+                this.graphics.drawImage(scaled, transform, null);
+                return;
+            }
+        }
+
         AffineTransform transform = new AffineTransform();
         transform.translate(x, y);
         transform.scale(width / image.getWidth(), height / image.getHeight());
         this.graphics.drawImage(image, transform, null);
     }
 
+    @Override
+    public void drawLayer(RenderLayer layer, double x, double y) {
+        int width = layer.getWidth();
+        int height = layer.getHeight();
+        if (width <= 0 || height <= 0) {
+            return;
+        }
+
+        LayerImage layerImage = this.layerImages.computeIfAbsent(layer, key -> new LayerImage());
+        GraphicsConfiguration configuration = this.graphics.getDeviceConfiguration();
+
+        // The accelerated image can lose its content at any time, so it has to be validated until it was drawn
+        do {
+            VolatileImage image = layerImage.image;
+            int state = image == null ? VolatileImage.IMAGE_INCOMPATIBLE : image.validate(configuration);
+
+            // Create a new image if the size or the graphics configuration changed
+            if (state == VolatileImage.IMAGE_INCOMPATIBLE || image.getWidth() != width || image.getHeight() != height) {
+                if (image != null) {
+                    image.flush();
+                }
+                image = layerImage.image = configuration.createCompatibleVolatileImage(width, height, Transparency.TRANSLUCENT);
+                state = VolatileImage.IMAGE_RESTORED;
+            }
+
+            // Render the content again if it changed or got lost
+            int version = layer.getVersion();
+            if (state == VolatileImage.IMAGE_RESTORED || layerImage.version != version) {
+                renderLayer(layer, image, width, height);
+                layerImage.version = version;
+            }
+
+            this.graphics.drawImage(image, (int) Math.round(x), (int) Math.round(y), null);
+        } while (layerImage.image.contentsLost());
+    }
+
+    /**
+     * Render the content of the given layer into its image
+     *
+     * @param layer  The layer to render
+     * @param image  Target image of the layer
+     * @param width  Layer width
+     * @param height Layer height
+     */
+    private void renderLayer(RenderLayer layer, VolatileImage image, int width, int height) {
+        Graphics2D graphics = image.createGraphics();
+        try {
+            // Clear the previous content
+            graphics.setComposite(AlphaComposite.Clear);
+            graphics.fillRect(0, 0, width, height);
+            graphics.setComposite(AlphaComposite.SrcOver);
+            graphics.setClip(0, 0, width, height);
+
+            SwingRenderContext context = new SwingRenderContext();
+            context.updateGraphics(graphics);
+            layer.getRenderer().onRenderLayer(context, width, height);
+        } catch (Exception e) {
+            e.printStackTrace();
+        } finally {
+            graphics.dispose();
+        }
+    }
+
+    @Override
+    public Rectangle getClipBounds() {
+        return this.graphics.getClipBounds();
+    }
+
     @Override
     public void translate(double x, double y) {
         this.graphics.translate(x, y);
@@ -125,9 +246,10 @@ public class SwingRenderContext implements IRenderContext {
     }
 
     /**
-     * Set font of the current context
+     * Cached image of a layer
      */
-    private void setFont(Font font) {
-        this.graphics.setFont(new java.awt.Font(font.getFontFamily(), font.getStyle().ordinal(), font.getSize()));
+    private static class LayerImage {
+        private VolatileImage image;
+        private int version;
     }
 }
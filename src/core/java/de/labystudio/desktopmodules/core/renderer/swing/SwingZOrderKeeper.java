@@ -0,0 +1,131 @@
+package de.labystudio.desktopmodules.core.renderer.swing;
+
+import java.awt.AWTEvent;
+import java.awt.EventQueue;
+import java.awt.Toolkit;
+import java.awt.Window;
+import java.awt.event.AWTEventListener;
+import java.awt.event.ComponentEvent;
+import java.awt.event.WindowEvent;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Keeps all module windows and overlay windows over the taskbar and other always on top windows.
+ * <p>
+ * The windows will no longer be on top if you click on the taskbar, so all registered windows are restacked together
+ * whenever a window of the application is shown, activated, deactivated or changes its state, e.g. after
+ * "show desktop" on the taskbar, and when the tray icon is used.
+ * The restacking is coalesced into one pass and applied by the {@link SwingFrameDispatcher}.
+ *
+ * @author LabyStudio
+ */
+public class SwingZOrderKeeper implements AWTEventListener {
+
+    private final SwingFrameDispatcher frameDispatcher;
+
+    /**
+     * All windows to keep on top, the last window is on top
+     */
+    private final List<Window> windows = new CopyOnWriteArrayList<>();
+
+    /**
+     * A restack is already posted to the event queue
+     */
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    /**
+     * The focus and window listener is installed on the first registered window
+     */
+    private final AtomicBoolean installed = new AtomicBoolean();
+
+    /**
+     * Create a z-order keeper
+     *
+     * @param frameDispatcher Applies the z-order of the windows
+     */
+    public SwingZOrderKeeper(SwingFrameDispatcher frameDispatcher) {
+        this.frameDispatcher = frameDispatcher;
+    }
+
+    /**
+     * Keep the given window on top
+     *
+     * @param window The window to keep on top
+     */
+    public void register(Window window) {
+        // Listen to the window events of the entire application
+        if (this.installed.compareAndSet(false, true)) {
+            Toolkit.getDefaultToolkit().addAWTEventListener(this,
+                    AWTEvent.COMPONENT_EVENT_MASK | AWTEvent.WINDOW_EVENT_MASK
+                            | AWTEvent.WINDOW_FOCUS_EVENT_MASK | AWTEvent.WINDOW_STATE_EVENT_MASK);
+        }
+
+        if (!this.windows.contains(window)) {
+            this.windows.add(window);
+        }
+    }
+
+    /**
+     * Stop keeping the given window on top, e.g. after it was disposed
+     *
+     * @param window The window to remove
+     */
+    public void unregister(Window window) {
+        this.windows.remove(window);
+    }
+
+    /**
+     * Restack all registered windows with the next event
+     */
+    public void restack() {
+        if (this.windows.isEmpty() || !this.scheduled.compareAndSet(false, true)) {
+            return;
+        }
+
+        EventQueue.invokeLater(() -> {
+            this.scheduled.set(false);
+
+            // Bring all visible windows to the front in the same order
+            for (Window window : this.windows) {
+                if (window.isShowing()) {
+                    this.frameDispatcher.setZOrder(window, window::toFront);
+                }
+            }
+        });
+    }
+
+    @Override
+    public void eventDispatched(AWTEvent event) {
+        switch (event.getID()) {
+            case ComponentEvent.COMPONENT_SHOWN:
+                // A module window appeared
+                if (event.getSource() instanceof Window) {
+                    restack();
+                }
+                break;
+            case WindowEvent.WINDOW_CLOSED:
+                // A disposed window can't be restacked anymore
+                if (event.getSource() instanceof Window) {
+                    unregister((Window) event.getSource());
+                }
+                restack();
+                break;
+            case WindowEvent.WINDOW_ACTIVATED:
+            case WindowEvent.WINDOW_DEACTIVATED:
+            case WindowEvent.WINDOW_LOST_FOCUS:
+                // The focus moved to another window, e.g. the taskbar or the settings
+                restack();
+                break;
+            case WindowEvent.WINDOW_STATE_CHANGED:
+                // A window was restored after it got minimized by the taskbar
+                if (this.windows.contains(event.getSource())) {
+                    restack();
+                }
+                break;
+            default:
+                break;
+        }
+    }
+}
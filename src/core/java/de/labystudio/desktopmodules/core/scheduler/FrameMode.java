@@ -0,0 +1,19 @@
+package de.labystudio.desktopmodules.core.scheduler;
+
+/**
+ * When the {@link FrameScheduler} renders a module
+ *
+ * @author LabyStudio
+ */
+public enum FrameMode {
+
+    /**
+     * Render the module only after it was invalidated, at most with its frame rate
+     */
+    ON_CHANGE,
+
+    /**
+     * Render the module on each frame with its frame rate, e.g. for animations between two ticks
+     */
+    CONTINUOUS
+}
@@ -0,0 +1,163 @@
+package de.labystudio.desktopmodules.core.scheduler;
+
+import de.labystudio.desktopmodules.core.DesktopModules;
+import de.labystudio.desktopmodules.core.addon.Addon;
+import de.labystudio.desktopmodules.core.module.Module;
+import de.labystudio.desktopmodules.core.module.render.IModuleRenderer;
+import de.labystudio.desktopmodules.core.renderer.swing.SwingFrameDispatcher;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Frame scheduler for all loaded modules, independent of the tick rate.
+ * Each module is rendered with its own frame rate or the global frame rate.
+ * <p>
+ * Modules in {@link FrameMode#ON_CHANGE} are only rendered after they were invalidated.
+ * Modules in {@link FrameMode#CONTINUOUS} are rendered on each frame, e.g. to animate between two ticks.
+ * <p>
+ * The frames are updated on the tick thread between the ticks, so the render callbacks never run
+ * concurrently with the tick of the same module. Modules that are still ticking in the background are skipped.
+ * Failed frames are reported to the {@link TickWatchdog} like failed ticks.
+ * All window operations of a frame pass are applied together in one batch by the {@link SwingFrameDispatcher}.
+ *
+ * @author LabyStudio
+ */
+public class FrameScheduler {
+
+    private final DesktopModules desktopModules;
+
+    /**
+     * Frame pacing state of each module
+     */
+    private final Map<Module<? extends Addon>, ModuleFrameState> states = new ConcurrentHashMap<>();
+
+    /**
+     * Default frame rate of all modules without an own frame rate
+     */
+    private volatile int frameRate = DesktopModules.FRAMES_PER_SECOND;
+
+    /**
+     * Create a frame scheduler for the modules of the given application
+     *
+     * @param desktopModules Application instance to get the modules from
+     */
+    public FrameScheduler(DesktopModules desktopModules) {
+        this.desktopModules = desktopModules;
+    }
+
+    /**
+     * Render all modules whose frame is due
+     *
+     * @param now          Current time in nanoseconds
+     * @param nextDeadline The next deadline of the tick thread in nanoseconds
+     * @return Time of the next due frame in nanoseconds or the given deadline if there is no earlier frame
+     */
+    public long updateFrames(long now, long nextDeadline) {
+        SwingFrameDispatcher frameDispatcher = this.desktopModules.getFrameDispatcher();
+        frameDispatcher.beginBatch();
+        try {
+            return updateFrames(this.desktopModules.getTickScheduler(), now, nextDeadline);
+        } finally {
+            // Apply all window operations of this frame pass at once
+            frameDispatcher.endBatch();
+        }
+    }
+
+    private long updateFrames(TickScheduler tickScheduler, long now, long nextDeadline) {
+        for (Module<? extends Addon> module : this.desktopModules.getSourceLoader().getModules()) {
+            IModuleRenderer moduleRenderer = module.getModuleRenderer();
+            if (!module.isEnabled() || moduleRenderer == null) {
+                continue;
+            }
+
+            // The frame is skipped until the tick is done
+            if (tickScheduler.isTicking(module)) {
+                continue;
+            }
+
+            boolean continuous = module.getFrameMode() == FrameMode.CONTINUOUS;
+            if (!continuous && !moduleRenderer.isFrameInvalid()) {
+                continue;
+            }
+
+            ModuleFrameState state = getState(module);
+            long interval = getFrameInterval(module);
+
+            if (state.isDue(now, interval)) {
+                if (continuous) {
+                    moduleRenderer.invalidateFrame();
+                }
+                try {
+                    moduleRenderer.updateFrame();
+                } catch (Exception e) {
+                    // A failing module must not stop the frames of the other modules
+                    tickScheduler.onFrameFailed(module, e);
+                }
+                state.update(now, interval);
+
+                // Idle modules in the change mode don't need another frame
+                if (!continuous) {
+                    continue;
+                }
+            }
+
+            // Find the closest frame
+            long deadline = state.getNextFrame(interval);
+            if (deadline - nextDeadline < 0) {
+                nextDeadline = deadline;
+            }
+        }
+
+        return nextDeadline;
+    }
+
+    /**
+     * Get the frame interval of the given module
+     *
+     * @param module The module to get the interval of
+     * @return The frame interval in nanoseconds
+     */
+    private long getFrameInterval(Module<? extends Addon> module) {
+        int frameRate = module.getFrameRate();
+        return TimeUnit.SECONDS.toNanos(1) / (frameRate > 0 ? frameRate : this.frameRate);
+    }
+
+    /**
+     * Get or create the frame pacing state of the given module
+     *
+     * @param module The module to get the state of
+     * @return Frame pacing state of the module
+     */
+    private ModuleFrameState getState(Module<? extends Addon> module) {
+        return this.states.computeIfAbsent(module, key -> new ModuleFrameState());
+    }
+
+    /**
+     * Forget the frame pacing state of the given module after it got disabled
+     *
+     * @param module The module to remove
+     */
+    public void remove(Module<? extends Addon> module) {
+        this.states.remove(module);
+    }
+
+    /**
+     * Change the default frame rate of all modules without an own frame rate
+     *
+     * @param frameRate Frames per second
+     */
+    public void setFrameRate(int frameRate) {
+        if (frameRate <= 0) {
+            throw new IllegalArgumentException("Frame rate must be positive");
+        }
+
+        this.frameRate = frameRate;
+        this.desktopModules.getTickScheduler().wakeUp();
+    }
+
+    public int getFrameRate() {
+        return this.frameRate;
+    }
+}
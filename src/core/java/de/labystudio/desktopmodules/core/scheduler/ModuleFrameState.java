@@ -0,0 +1,57 @@
+package de.labystudio.desktopmodules.core.scheduler;
+
+/**
+ * Frame pacing state of a single module
+ *
+ * @author LabyStudio
+ */
+public class ModuleFrameState {
+
+    /**
+     * Time of the last frame in nanoseconds
+     */
+    private long lastFrame;
+
+    /**
+     * Module was rendered at least once
+     */
+    private boolean framed;
+
+    /**
+     * Is a new frame allowed at the given time
+     *
+     * @param now      Current time in nanoseconds
+     * @param interval Frame interval of the module in nanoseconds
+     * @return The frame interval elapsed
+     */
+    public boolean isDue(long now, long interval) {
+        return !this.framed || now - this.lastFrame >= interval;
+    }
+
+    /**
+     * Update the last frame time after the module was rendered.
+     * The time advances by the interval to keep an even frame pace.
+     * Missed frames are dropped instead of being rendered in a burst.
+     *
+     * @param now      Current time in nanoseconds
+     * @param interval Frame interval of the module in nanoseconds
+     */
+    public void update(long now, long interval) {
+        if (this.framed && now - this.lastFrame < interval * 2) {
+            this.lastFrame += interval;
+        } else {
+            this.lastFrame = now;
+        }
+        this.framed = true;
+    }
+
+    /**
+     * Get the earliest time of the next frame
+     *
+     * @param interval Frame interval of the module in nanoseconds
+     * @return Time of the next frame in nanoseconds
+     */
+    public long getNextFrame(long interval) {
+        return this.lastFrame + interval;
+    }
+}
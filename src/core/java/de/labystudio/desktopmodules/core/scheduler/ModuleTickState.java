@@ -0,0 +1,200 @@
+package de.labystudio.desktopmodules.core.scheduler;
+
+import java.util.concurrent.Future;
+
+/**
+ * Scheduling state of a single module
+ *
+ * @author LabyStudio
+ */
+public class ModuleTickState {
+
+    /**
+     * Time of the last tick in nanoseconds
+     */
+    private long lastTick;
+
+    /**
+     * Module was ticked at least once
+     */
+    private boolean ticked;
+
+    /**
+     * Running tick task in the parallel mode
+     */
+    private volatile Future<?> task;
+
+    /**
+     * Start time of the current tick in nanoseconds
+     */
+    private volatile long tickStart;
+
+    /**
+     * The thread that is currently ticking the module
+     */
+    private volatile Thread tickThread;
+
+    /**
+     * The current tick was already reported as stalled
+     */
+    private volatile boolean stallReported;
+
+    /**
+     * Amount of failed or overrun ticks in a row
+     */
+    private volatile int failures;
+
+    /**
+     * Amount of quarantines in a row, used for the exponential backoff
+     */
+    private volatile int quarantines;
+
+    /**
+     * End of the quarantine in nanoseconds
+     */
+    private volatile long quarantinedUntil;
+
+    /**
+     * The reason of the last failure
+     */
+    private volatile String lastFailure;
+
+    /**
+     * Update the last tick time after the module was ticked.
+     * The time advances by the interval to avoid drift unless the module fell behind.
+     *
+     * @param now      Current time in nanoseconds
+     * @param interval Tick interval of the module in nanoseconds
+     */
+    public void update(long now, long interval) {
+        if (this.ticked && now - this.lastTick < interval * 2) {
+            this.lastTick += interval;
+        } else {
+            this.lastTick = now;
+        }
+        this.ticked = true;
+    }
+
+    /**
+     * Mark the start of a tick
+     *
+     * @param thread The thread that ticks the module
+     * @param now    Current time in nanoseconds
+     */
+    public void startTick(Thread thread, long now) {
+        this.tickStart = now;
+        this.tickThread = thread;
+        this.stallReported = false;
+    }
+
+    /**
+     * Mark the end of a tick
+     */
+    public void endTick() {
+        this.tickThread = null;
+    }
+
+    /**
+     * Count a failed or overrun tick
+     *
+     * @param reason Reason of the failure
+     * @return Amount of failures in a row
+     */
+    public int fail(String reason) {
+        this.lastFailure = reason;
+        return ++this.failures;
+    }
+
+    /**
+     * Reset the failure counter after a healthy tick
+     */
+    public void succeed() {
+        this.failures = 0;
+        this.quarantines = 0;
+    }
+
+    /**
+     * Quarantine the module until the given time
+     *
+     * @param until End of the quarantine in nanoseconds
+     */
+    public void quarantine(long until) {
+        this.quarantinedUntil = until;
+        this.quarantines++;
+        this.failures = 0;
+    }
+
+    /**
+     * Release the module from the quarantine and reset the backoff
+     */
+    public void release() {
+        this.quarantinedUntil = 0;
+        this.quarantines = 0;
+        this.failures = 0;
+        this.lastFailure = null;
+    }
+
+    /**
+     * Is the module quarantined at the given time
+     *
+     * @param now Current time in nanoseconds
+     * @return Module is not allowed to tick
+     */
+    public boolean isQuarantined(long now) {
+        return this.quarantinedUntil != 0 && now - this.quarantinedUntil < 0;
+    }
+
+    /**
+     * Is the module still ticking in the background
+     *
+     * @return Tick task is running
+     */
+    public boolean isTicking() {
+        Future<?> task = this.task;
+        return task != null && !task.isDone();
+    }
+
+    public void setTask(Future<?> task) {
+        this.task = task;
+    }
+
+    public Future<?> getTask() {
+        return this.task;
+    }
+
+    public long getLastTick() {
+        return this.lastTick;
+    }
+
+    public boolean hasTicked() {
+        return this.ticked;
+    }
+
+    public long getTickStart() {
+        return this.tickStart;
+    }
+
+    public Thread getTickThread() {
+        return this.tickThread;
+    }
+
+    public boolean isStallReported() {
+        return this.stallReported;
+    }
+
+    public void setStallReported(boolean stallReported) {
+        this.stallReported = stallReported;
+    }
+
+    public int getQuarantines() {
+        return this.quarantines;
+    }
+
+    public long getQuarantinedUntil() {
+        return this.quarantinedUntil;
+    }
+
+    public String getLastFailure() {
+        return this.lastFailure;
+    }
+}
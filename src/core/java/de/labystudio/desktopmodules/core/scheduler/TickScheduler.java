@@ -0,0 +1,423 @@
+package de.labystudio.desktopmodules.core.scheduler;
+
+import de.labystudio.desktopmodules.core.DesktopModules;
+import de.labystudio.desktopmodules.core.addon.Addon;
+import de.labystudio.desktopmodules.core.module.Module;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Adaptive tick scheduler for all loaded modules.
+ * Each module is only ticked when its own tick interval elapsed and the tick thread
+ * sleeps until the next deadline of all enabled modules.
+ * <p>
+ * In parallel mode all due modules are ticked concurrently on a work-stealing pool.
+ * The tick thread waits for each module until its tick budget is exceeded before the frames are updated.
+ * <p>
+ * The frames are updated by the {@link FrameScheduler} after the ticks with their own frame rate.
+ * <p>
+ * All ticks are observed by the {@link TickWatchdog} which quarantines misbehaving modules.
+ *
+ * @author LabyStudio
+ */
+public class TickScheduler implements Runnable {
+
+    /**
+     * Maximum time to sleep if there is no enabled module
+     */
+    private static final long MAX_SLEEP_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final DesktopModules desktopModules;
+
+    /**
+     * Scheduling state of each module
+     */
+    private final Map<Module<? extends Addon>, ModuleTickState> states = new ConcurrentHashMap<>();
+
+    private final TickWatchdog watchdog = new TickWatchdog(this.states);
+
+    /**
+     * Modules that are due in the current tick
+     */
+    private final List<Module<? extends Addon>> dueModules = new ArrayList<>();
+
+    private volatile Thread thread;
+    private volatile boolean running;
+
+    /**
+     * Work-stealing pool for the parallel mode
+     */
+    private ForkJoinPool pool;
+
+    /**
+     * Default tick budget of a module in milliseconds
+     */
+    private volatile long tickBudget = 1000 / DesktopModules.TICKS_PER_SECOND;
+
+    /**
+     * Create a tick scheduler for the modules of the given application
+     *
+     * @param desktopModules Application instance to get the modules from
+     */
+    public TickScheduler(DesktopModules desktopModules) {
+        this.desktopModules = desktopModules;
+    }
+
+    /**
+     * Start the tick thread
+     */
+    public void start() {
+        if (this.running) {
+            return;
+        }
+
+        this.running = true;
+        this.thread = new Thread(this, "DesktopModules Tick Thread");
+        this.thread.start();
+
+        this.watchdog.start();
+    }
+
+    /**
+     * Stop the tick thread
+     */
+    public void stop() {
+        this.running = false;
+        this.watchdog.stop();
+
+        // Interrupt the sleeping thread
+        Thread thread = this.thread;
+        if (thread != null) {
+            thread.interrupt();
+        }
+
+        // Stop the parallel tick workers
+        ForkJoinPool pool = this.pool;
+        if (pool != null) {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Wake up the tick thread to recalculate the next deadline.
+     * Has to be called when a module changes its tick interval, frame rate or visibility or got invalidated.
+     */
+    public void wakeUp() {
+        Thread thread = this.thread;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    @Override
+    public void run() {
+        while (this.running) {
+            // Deliver the results of finished async tasks
+            this.desktopModules.getTaskService().runCompletions();
+
+            long now = System.nanoTime();
+            long nextDeadline = now + MAX_SLEEP_NANOS;
+
+            // Collect all due modules
+            for (Module<? extends Addon> module : this.desktopModules.getSourceLoader().getModules()) {
+                if (!module.isEnabled()) {
+                    continue;
+                }
+
+                ModuleTickState state = getState(module);
+
+                // Module is still ticking in the background
+                if (state.isTicking()) {
+                    continue;
+                }
+
+                // Module is quarantined by the watchdog
+                if (state.isQuarantined(now)) {
+                    if (state.getQuarantinedUntil() - nextDeadline < 0) {
+                        nextDeadline = state.getQuarantinedUntil();
+                    }
+                    continue;
+                }
+
+                long interval = TimeUnit.MILLISECONDS.toNanos(module.getTickInterval());
+                if (!state.hasTicked() || now - state.getLastTick() >= interval) {
+                    this.dueModules.add(module);
+                    state.update(now, interval);
+                }
+
+                // Find the closest deadline
+                long deadline = state.getLastTick() + interval;
+                if (deadline - nextDeadline < 0) {
+                    nextDeadline = deadline;
+                }
+            }
+
+            // Tick all due modules
+            if (this.pool != null && this.dueModules.size() > 1) {
+                tickParallel(this.dueModules);
+            } else {
+                for (Module<? extends Addon> module : this.dueModules) {
+                    tickModule(module);
+                }
+            }
+            this.dueModules.clear();
+
+            // Render all modules whose frame is due
+            nextDeadline = this.desktopModules.getFrameScheduler().updateFrames(System.nanoTime(), nextDeadline);
+
+            // Sleep until the next module is due
+            long sleep = nextDeadline - System.nanoTime();
+            if (sleep > 0) {
+                LockSupport.parkNanos(this, sleep);
+            }
+        }
+    }
+
+    /**
+     * Tick all given modules concurrently and wait until all modules are done
+     * or exceeded their tick budget. Modules that exceeded their budget keep ticking in the background
+     * and will be skipped until they are done.
+     *
+     * @param modules The modules to tick
+     */
+    private void tickParallel(List<Module<? extends Addon>> modules) {
+        long start = System.nanoTime();
+
+        // Fork all ticks
+        for (Module<? extends Addon> module : modules) {
+            long deadline = start + TimeUnit.MILLISECONDS.toNanos(getTickBudget(module));
+
+            getState(module).setTask(this.pool.submit(() -> {
+                tickModule(module);
+
+                // Reschedule the module if it exceeded the budget
+                if (System.nanoTime() - deadline > 0) {
+                    wakeUp();
+                }
+            }));
+        }
+
+        // Barrier before the frames are requested
+        for (Module<? extends Addon> module : modules) {
+            long deadline = start + TimeUnit.MILLISECONDS.toNanos(getTickBudget(module));
+
+            try {
+                getState(module).getTask().get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                // Module exceeded its tick budget, the frame is skipped until the tick is done
+            } catch (ExecutionException e) {
+                e.getCause().printStackTrace();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Tick the given module and report the result to the watchdog
+     *
+     * @param module The module to tick
+     */
+    private void tickModule(Module<? extends Addon> module) {
+        ModuleTickState state = getState(module);
+        Throwable error = null;
+
+        long start = System.nanoTime();
+        state.startTick(Thread.currentThread(), start);
+        try {
+            module.captureTweens();
+            module.onTick();
+
+            // Modules without own state tracking are always outdated
+            if (module.isAutoInvalidate()) {
+                module.invalidate();
+            }
+        } catch (Exception e) {
+            e.printStackTrace();
+            error = e;
+            module.getMetrics().recordException();
+        } finally {
+            state.endTick();
+
+            // The module got disabled during the tick
+            if (!module.isEnabled()) {
+                this.states.remove(module, state);
+            }
+        }
+
+        long duration = System.nanoTime() - start;
+        module.getMetrics().recordTick(duration);
+        long budget = TimeUnit.MILLISECONDS.toNanos(getTickBudget(module));
+        this.watchdog.onTickDone(module, state, duration, budget, error);
+    }
+
+    /**
+     * Report a failed frame of the given module to the watchdog
+     *
+     * @param module The module that failed to render
+     * @param error  Exception of the frame
+     */
+    public void onFrameFailed(Module<? extends Addon> module, Throwable error) {
+        error.printStackTrace();
+        module.getMetrics().recordException();
+        this.watchdog.onFrameFailed(module, getState(module), error);
+    }
+
+    /**
+     * Get the tick budget of the given module
+     *
+     * @param module The module to get the budget of
+     * @return The tick budget of the module or the default budget in milliseconds
+     */
+    private long getTickBudget(Module<? extends Addon> module) {
+        long budget = module.getTickBudget();
+        return budget > 0 ? budget : this.tickBudget;
+    }
+
+    /**
+     * Get or create the scheduling state of the given module
+     *
+     * @param module The module to get the state of
+     * @return Scheduling state of the module
+     */
+    private ModuleTickState getState(Module<? extends Addon> module) {
+        return this.states.computeIfAbsent(module, key -> new ModuleTickState());
+    }
+
+    /**
+     * Forget the scheduling state of the given module after it got disabled.
+     * The state of a module that is still ticking in the background is removed after its tick.
+     *
+     * @param module The module to remove
+     */
+    public void remove(Module<? extends Addon> module) {
+        this.states.computeIfPresent(module, (key, state) -> state.isTicking() ? state : null);
+    }
+
+    /**
+     * Get the progress since the last tick of the given module
+     *
+     * @param module The module to get the progress of
+     * @return Progress from 0.0 to 1.0 until the next tick
+     */
+    public float getPartialTicks(Module<? extends Addon> module) {
+        ModuleTickState state = this.states.get(module);
+        if (state == null || !state.hasTicked()) {
+            return 0;
+        }
+
+        long interval = TimeUnit.MILLISECONDS.toNanos(module.getTickInterval());
+        return Math.max(0, Math.min(1, (float) (System.nanoTime() - state.getTickStart()) / interval));
+    }
+
+    /**
+     * Is the given module still ticking in the background
+     *
+     * @param module The module to check
+     * @return Tick task of the module is running
+     */
+    public boolean isTicking(Module<? extends Addon> module) {
+        ModuleTickState state = this.states.get(module);
+        return state != null && state.isTicking();
+    }
+
+    /**
+     * Is the given module quarantined by the watchdog
+     *
+     * @param module The module to check
+     * @return Module is currently not ticked
+     */
+    public boolean isQuarantined(Module<? extends Addon> module) {
+        ModuleTickState state = this.states.get(module);
+        return state != null && state.isQuarantined(System.nanoTime());
+    }
+
+    /**
+     * Get the remaining quarantine time of the given module
+     *
+     * @param module The module to check
+     * @return Remaining time in milliseconds or 0 if the module is not quarantined
+     */
+    public long getQuarantineRemaining(Module<? extends Addon> module) {
+        ModuleTickState state = this.states.get(module);
+        long now = System.nanoTime();
+        if (state == null || !state.isQuarantined(now)) {
+            return 0;
+        }
+        return TimeUnit.NANOSECONDS.toMillis(state.getQuarantinedUntil() - now);
+    }
+
+    /**
+     * Get the reason of the last tick failure of the given module
+     *
+     * @param module The module to get the failure of
+     * @return Failure description or null if the module never failed
+     */
+    public String getLastFailure(Module<? extends Addon> module) {
+        ModuleTickState state = this.states.get(module);
+        return state == null ? null : state.getLastFailure();
+    }
+
+    /**
+     * Release the given module from the quarantine and reset its backoff
+     *
+     * @param module The module to release
+     */
+    public void release(Module<? extends Addon> module) {
+        ModuleTickState state = this.states.get(module);
+        if (state != null) {
+            state.release();
+        }
+        wakeUp();
+    }
+
+    /**
+     * Enable or disable the parallel tick mode.
+     * Has to be called before starting the scheduler.
+     *
+     * @param parallel Tick all due modules concurrently on a work-stealing pool sized to the available cores
+     */
+    public void setParallel(boolean parallel) {
+        if (this.running) {
+            throw new IllegalStateException("Tick scheduler is already running");
+        }
+
+        if (parallel && this.pool == null) {
+            this.pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+        }
+        if (!parallel && this.pool != null) {
+            this.pool.shutdown();
+            this.pool = null;
+        }
+    }
+
+    public boolean isParallel() {
+        return this.pool != null;
+    }
+
+    /**
+     * Change the default tick budget of all modules without an own budget
+     *
+     * @param tickBudget Tick budget in milliseconds
+     */
+    public void setTickBudget(long tickBudget) {
+        if (tickBudget <= 0) {
+            throw new IllegalArgumentException("Tick budget must be positive");
+        }
+
+        this.tickBudget = tickBudget;
+    }
+
+    public long getTickBudget() {
+        return this.tickBudget;
+    }
+}
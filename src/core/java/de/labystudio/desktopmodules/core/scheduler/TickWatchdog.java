@@ -0,0 +1,160 @@
+package de.labystudio.desktopmodules.core.scheduler;
+
+import de.labystudio.desktopmodules.core.addon.Addon;
+import de.labystudio.desktopmodules.core.module.Module;
+
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Watchdog for the module ticks.
+ * It measures the tick duration of each module, logs overruns and quarantines modules
+ * that throw exceptions or exceed their tick budget repeatedly using an exponential backoff.
+ * Failed frames count as failed ticks.
+ * Modules that block the tick thread are reported with the stack trace of the blocked thread.
+ *
+ * @author LabyStudio
+ */
+public class TickWatchdog implements Runnable {
+
+    /**
+     * Amount of failed ticks in a row until the module gets quarantined
+     */
+    private static final int FAILURE_THRESHOLD = 3;
+
+    /**
+     * Quarantine duration of the first quarantine, doubles with each quarantine in a row
+     */
+    private static final long BASE_BACKOFF_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    /**
+     * Maximum quarantine duration
+     */
+    private static final long MAX_BACKOFF_NANOS = TimeUnit.MINUTES.toNanos(5);
+
+    /**
+     * Tick duration until a module is reported as stalled
+     */
+    private static final long STALL_THRESHOLD_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+    private final Map<Module<? extends Addon>, ModuleTickState> states;
+
+    private ScheduledExecutorService executorService;
+
+    /**
+     * Create a watchdog for the given module states
+     *
+     * @param states Scheduling states of all modules
+     */
+    public TickWatchdog(Map<Module<? extends Addon>, ModuleTickState> states) {
+        this.states = states;
+    }
+
+    /**
+     * Start the stall detection
+     */
+    public void start() {
+        this.executorService = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "DesktopModules Tick Watchdog");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.executorService.scheduleAtFixedRate(this, 1, 1, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Stop the stall detection
+     */
+    public void stop() {
+        if (this.executorService != null) {
+            this.executorService.shutdownNow();
+        }
+    }
+
+    /**
+     * Called after each tick of a module to check the duration and the result of the tick
+     *
+     * @param module   The ticked module
+     * @param state    Scheduling state of the module
+     * @param duration Tick duration in nanoseconds
+     * @param budget   Tick budget of the module in nanoseconds
+     * @param error    Exception of the tick or null if the tick was successful
+     */
+    public void onTickDone(Module<? extends Addon> module, ModuleTickState state, long duration, long budget, Throwable error) {
+        String reason;
+        if (error != null) {
+            reason = "Tick failed: " + error;
+        } else if (duration > budget) {
+            reason = String.format("Tick exceeded budget: %dms > %dms",
+                    TimeUnit.NANOSECONDS.toMillis(duration), TimeUnit.NANOSECONDS.toMillis(budget));
+            System.err.println("[Watchdog] " + getName(module) + " " + reason);
+        } else {
+            state.succeed();
+            return;
+        }
+
+        fail(module, state, reason);
+    }
+
+    /**
+     * Called after a frame of a module failed, it counts as a failed tick
+     *
+     * @param module The module that failed to render
+     * @param state  Scheduling state of the module
+     * @param error  Exception of the frame
+     */
+    public void onFrameFailed(Module<? extends Addon> module, ModuleTickState state, Throwable error) {
+        fail(module, state, "Frame failed: " + error);
+    }
+
+    /**
+     * Count a failure of the given module and quarantine it if it fails repeatedly
+     *
+     * @param module The failed module
+     * @param state  Scheduling state of the module
+     * @param reason Reason of the failure
+     */
+    private void fail(Module<? extends Addon> module, ModuleTickState state, String reason) {
+        if (state.fail(reason) >= FAILURE_THRESHOLD) {
+            long backoff = Math.min(BASE_BACKOFF_NANOS << Math.min(state.getQuarantines(), 20), MAX_BACKOFF_NANOS);
+            state.quarantine(System.nanoTime() + backoff);
+
+            System.err.println("[Watchdog] " + getName(module) + " quarantined for "
+                    + TimeUnit.NANOSECONDS.toSeconds(backoff) + "s (" + reason + ")");
+        }
+    }
+
+    @Override
+    public void run() {
+        long now = System.nanoTime();
+
+        for (Map.Entry<Module<? extends Addon>, ModuleTickState> entry : this.states.entrySet()) {
+            ModuleTickState state = entry.getValue();
+            Thread thread = state.getTickThread();
+
+            // Report each stalled tick once
+            if (thread == null || state.isStallReported() || now - state.getTickStart() < STALL_THRESHOLD_NANOS) {
+                continue;
+            }
+            state.setStallReported(true);
+
+            System.err.println("[Watchdog] " + getName(entry.getKey()) + " is blocking thread " + thread.getName()
+                    + " for " + TimeUnit.NANOSECONDS.toSeconds(now - state.getTickStart()) + "s");
+            for (StackTraceElement element : thread.getStackTrace()) {
+                System.err.println("\tat " + element);
+            }
+        }
+    }
+
+    /**
+     * Get the log name of the given module
+     *
+     * @param module The module
+     * @return Display name of the module and its addon
+     */
+    private String getName(Module<? extends Addon> module) {
+        return module.getDisplayName() + " (" + module.getAddon().getDisplayName() + ")";
+    }
+}
@@ -0,0 +1,99 @@
+package de.labystudio.desktopmodules.core.task;
+
+import de.labystudio.desktopmodules.core.addon.Addon;
+import de.labystudio.desktopmodules.core.module.Module;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+/**
+ * Handle of an asynchronous task of an addon or module.
+ * The result callback is called on the tick thread.
+ *
+ * @param <V> Result type of the task
+ * @author LabyStudio
+ */
+public class AsyncTask<V> {
+
+    private final Addon addon;
+    private final Module<? extends Addon> module;
+
+    private final Callable<V> callable;
+    private final Consumer<V> callback;
+
+    private volatile Future<?> future;
+    private volatile boolean cancelled;
+    private volatile boolean done;
+
+    /**
+     * Create a task handle
+     *
+     * @param addon    The addon that owns the task
+     * @param module   The module that owns the task or null if it belongs to the addon only
+     * @param callable The work to execute in the background
+     * @param callback The callback that receives the result on the tick thread
+     */
+    AsyncTask(Addon addon, Module<? extends Addon> module, Callable<V> callable, Consumer<V> callback) {
+        this.addon = addon;
+        this.module = module;
+        this.callable = callable;
+        this.callback = callback;
+    }
+
+    /**
+     * Cancel the task. The callback won't be called anymore and a running task will be interrupted.
+     */
+    public void cancel() {
+        this.cancelled = true;
+
+        Future<?> future = this.future;
+        if (future != null) {
+            future.cancel(true);
+        }
+    }
+
+    /**
+     * Deliver the result to the callback
+     *
+     * @param result The result of the task
+     */
+    void complete(V result) {
+        this.done = true;
+
+        if (!this.cancelled && this.callback != null) {
+            this.callback.accept(result);
+        }
+    }
+
+    /**
+     * Mark the task as done without a result
+     */
+    void fail() {
+        this.done = true;
+    }
+
+    void setFuture(Future<?> future) {
+        this.future = future;
+    }
+
+    Callable<V> getCallable() {
+        return this.callable;
+    }
+
+    public Addon getAddon() {
+        return this.addon;
+    }
+
+    public Module<? extends Addon> getModule() {
+        return this.module;
+    }
+
+    public boolean isCancelled() {
+        return this.cancelled;
+    }
+
+    public boolean isDone() {
+        return this.done || this.cancelled;
+    }
+}
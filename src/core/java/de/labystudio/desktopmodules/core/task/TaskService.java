@@ -0,0 +1,298 @@
+package de.labystudio.desktopmodules.core.task;
+
+import de.labystudio.desktopmodules.core.DesktopModules;
+import de.labystudio.desktopmodules.core.addon.Addon;
+import de.labystudio.desktopmodules.core.module.Module;
+import de.labystudio.desktopmodules.core.scheduler.TickScheduler;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Managed executor for blocking work of addons and modules, like network or file access.
+ * Each addon can only run a limited amount of tasks at the same time, additional tasks are queued per addon.
+ * Tasks that exceed the queue capacity of an addon are rejected and marked as done without a result.
+ * The results are delivered back on the tick thread, the results of a module that is still ticking
+ * in the background are delivered after its tick.
+ *
+ * @author LabyStudio
+ */
+public class TaskService {
+
+    /**
+     * Amount of worker threads shared by all addons
+     */
+    private static final int THREADS = 4;
+
+    /**
+     * Maximum amount of tasks waiting for a worker thread
+     */
+    private static final int QUEUE_CAPACITY = 128;
+
+    /**
+     * Maximum amount of tasks of a single addon waiting for its concurrency limit
+     */
+    private static final int ADDON_QUEUE_CAPACITY = 64;
+
+    private final DesktopModules desktopModules;
+
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * Queued and running tasks of each addon
+     */
+    private final Map<Addon, AddonTasks> addonTasks = new ConcurrentHashMap<>();
+
+    /**
+     * Results that have to be delivered on the tick thread
+     */
+    private final Queue<Completion> completions = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Results that are waiting for the tick of their module, only used on the tick thread
+     */
+    private final List<Completion> deferredCompletions = new ArrayList<>();
+
+    /**
+     * Create a task service
+     *
+     * @param desktopModules Application instance to wake up the tick thread
+     */
+    public TaskService(DesktopModules desktopModules) {
+        this.desktopModules = desktopModules;
+
+        AtomicInteger threadId = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(THREADS, THREADS, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(QUEUE_CAPACITY), runnable -> {
+            Thread thread = new Thread(runnable, "DesktopModules Task Thread #" + threadId.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Submit a task
+     *
+     * @param addon    The addon that owns the task
+     * @param module   The module that owns the task or null if it belongs to the addon only
+     * @param callable The work to execute in the background
+     * @param callback The callback that receives the result on the tick thread
+     * @param <V>      Result type of the task
+     * @return Handle of the submitted task, it is already done if the task got rejected
+     */
+    public <V> AsyncTask<V> submit(Addon addon, Module<? extends Addon> module, Callable<V> callable, Consumer<V> callback) {
+        AsyncTask<V> task = new AsyncTask<>(addon, module, callable, callback);
+
+        AddonTasks tasks = this.addonTasks.computeIfAbsent(addon, AddonTasks::new);
+        synchronized (tasks) {
+            // Reject the task if the addon queued too many tasks
+            if (tasks.pending.size() >= ADDON_QUEUE_CAPACITY) {
+                task.fail();
+
+                System.err.println("[TaskService] Task of " + addon.getDisplayName() + " rejected, the addon task queue is full");
+                return task;
+            }
+
+            tasks.pending.add(task);
+            schedule(tasks);
+        }
+
+        return task;
+    }
+
+    /**
+     * Cancel all tasks of the given addon
+     *
+     * @param addon The addon to cancel the tasks of
+     */
+    public void cancel(Addon addon) {
+        AddonTasks tasks = this.addonTasks.remove(addon);
+        if (tasks == null) {
+            return;
+        }
+
+        synchronized (tasks) {
+            for (AsyncTask<?> task : tasks.pending) {
+                task.cancel();
+            }
+            for (AsyncTask<?> task : tasks.running) {
+                task.cancel();
+            }
+            tasks.pending.clear();
+        }
+    }
+
+    /**
+     * Cancel all tasks of the given module
+     *
+     * @param module The module to cancel the tasks of
+     */
+    public void cancel(Module<? extends Addon> module) {
+        AddonTasks tasks = this.addonTasks.get(module.getAddon());
+        if (tasks == null) {
+            return;
+        }
+
+        synchronized (tasks) {
+            tasks.pending.removeIf(task -> {
+                if (task.getModule() == module) {
+                    task.cancel();
+                    return true;
+                }
+                return false;
+            });
+            for (AsyncTask<?> task : tasks.running) {
+                if (task.getModule() == module) {
+                    task.cancel();
+                }
+            }
+        }
+    }
+
+    /**
+     * Deliver all results of finished tasks. Called on the tick thread.
+     * The results of modules that are still ticking in the background are delivered after their tick.
+     */
+    public void runCompletions() {
+        // New results are delivered after the deferred results to keep their order
+        Completion completion;
+        while ((completion = this.completions.poll()) != null) {
+            this.deferredCompletions.add(completion);
+        }
+        if (this.deferredCompletions.isEmpty()) {
+            return;
+        }
+
+        TickScheduler tickScheduler = this.desktopModules.getTickScheduler();
+        Iterator<Completion> iterator = this.deferredCompletions.iterator();
+        while (iterator.hasNext()) {
+            completion = iterator.next();
+
+            // The module state must not be changed during its tick
+            Module<? extends Addon> module = completion.module;
+            if (module != null && tickScheduler.isTicking(module)) {
+                continue;
+            }
+
+            iterator.remove();
+            try {
+                completion.runnable.run();
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * Cancel all tasks and stop the worker threads
+     */
+    public void shutdown() {
+        for (Addon addon : this.addonTasks.keySet()) {
+            cancel(addon);
+        }
+        this.executor.shutdownNow();
+    }
+
+    /**
+     * Start pending tasks of the given addon until its concurrency limit is reached.
+     * The caller has to hold the lock of the addon tasks.
+     *
+     * @param tasks Tasks of an addon
+     */
+    private void schedule(AddonTasks tasks) {
+        int limit = Math.max(1, tasks.addon.getMaxConcurrentTasks());
+
+        while (tasks.running.size() < limit && !tasks.pending.isEmpty()) {
+            AsyncTask<?> task = tasks.pending.poll();
+            if (task.isCancelled()) {
+                continue;
+            }
+
+            tasks.running.add(task);
+            try {
+                task.setFuture(this.executor.submit(() -> execute(tasks, task)));
+            } catch (RejectedExecutionException e) {
+                tasks.running.remove(task);
+                task.cancel();
+
+                System.err.println("[TaskService] Task of " + tasks.addon.getDisplayName() + " rejected, the task queue is full");
+            }
+        }
+    }
+
+    /**
+     * Execute the given task on a worker thread and queue the result for the tick thread
+     *
+     * @param tasks Tasks of the addon
+     * @param task  The task to execute
+     * @param <V>   Result type of the task
+     */
+    private <V> void execute(AddonTasks tasks, AsyncTask<V> task) {
+        try {
+            if (!task.isCancelled()) {
+                V result = task.getCallable().call();
+
+                // Deliver the result on the tick thread
+                this.completions.add(new Completion(task.getModule(), () -> task.complete(result)));
+                this.desktopModules.getTickScheduler().wakeUp();
+            }
+        } catch (InterruptedException e) {
+            // Task cancelled
+            task.fail();
+        } catch (Exception e) {
+            if (!task.isCancelled()) {
+                e.printStackTrace();
+            }
+            task.fail();
+        } finally {
+            synchronized (tasks) {
+                tasks.running.remove(task);
+                schedule(tasks);
+            }
+        }
+    }
+
+    /**
+     * Result of a task that is delivered on the tick thread
+     */
+    private static class Completion {
+
+        private final Module<? extends Addon> module;
+        private final Runnable runnable;
+
+        private Completion(Module<? extends Addon> module, Runnable runnable) {
+            this.module = module;
+            this.runnable = runnable;
+        }
+    }
+
+    /**
+     * Queued and running tasks of a single addon
+     */
+    private static class AddonTasks {
+
+        private final Addon addon;
+
+        private final Deque<AsyncTask<?>> pending = new ArrayDeque<>();
+        private final List<AsyncTask<?>> running = new ArrayList<>();
+
+        private AddonTasks(Addon addon) {
+            this.addon = addon;
+        }
+    }
+}
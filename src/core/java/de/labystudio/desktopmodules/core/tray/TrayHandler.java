@@ -128,7 +128,8 @@ public class TrayHandler implements MouseListener {
 
     @Override
     public void mouseReleased(MouseEvent e) {
-        // Unused
+        // The taskbar is in front of the modules now
+        this.desktopModules.getZOrderKeeper().restack();
     }
 
 }
@@ -1,37 +1,53 @@
 package de.labystudio.desktopmodules.demo.modules;
 
 import com.google.gson.JsonObject;
+import de.labystudio.desktopmodules.core.loader.Texture;
 import de.labystudio.desktopmodules.core.loader.TextureLoader;
 import de.labystudio.desktopmodules.core.module.Module;
 import de.labystudio.desktopmodules.core.renderer.IRenderContext;
 import de.labystudio.desktopmodules.core.renderer.font.Font;
 import de.labystudio.desktopmodules.core.renderer.font.FontStyle;
 import de.labystudio.desktopmodules.core.renderer.font.StringEffect;
+import de.labystudio.desktopmodules.core.renderer.layer.RenderLayer;
 import de.labystudio.desktopmodules.demo.DemoAddon;
 
 import java.awt.*;
-import java.awt.image.BufferedImage;
 
 public class DemoModule extends Module<DemoAddon> {
 
     private static final Font DEMO_FONT = new Font("Impact", FontStyle.PLAIN, 24);
 
-    private BufferedImage demoTexture;
+    private Texture demoTexture;
+
+    private RenderLayer background;
 
     public DemoModule() {
         super(250, 60);
+
+        // The demo module is static, one tick per second is enough
+        setTickInterval(1000);
+
+        // Nothing changes on tick, the module only needs to be repainted on hover, drag or resize
+        setAutoInvalidate(false);
     }
 
     @Override
     public void onInitialize(DemoAddon addon, JsonObject config) {
         super.onInitialize(addon, config);
 
+        // Background and texture are static, they are only rendered once into a cached layer
+        this.background = createLayer((context, width, height) -> {
+            context.drawRect(0, 0, width - 1, height - 1, new Color(50, 50, 50, 130));
+            context.drawImage(this.demoTexture.get(), this.rightBound ? width - height : 0, 0, height, height);
+        });
+
         System.out.println("Module of " + this.addon.getDisplayName() + " initialized");
     }
 
     @Override
     public void loadTextures(TextureLoader textureLoader) {
-        this.demoTexture = textureLoader.load("textures/demo/demo.png");
+        // Decode in the background and render the background again when it's ready
+        this.demoTexture = textureLoader.loadAsync("textures/demo/demo.png", this::invalidateLayers);
     }
 
     @Override
@@ -51,8 +67,7 @@ public class DemoModule extends Module<DemoAddon> {
 
     @Override
     public void onRender(IRenderContext context, int width, int height) {
-        context.drawRect(0, 0, width - 1, height - 1, new Color(50, 50, 50, 130));
+        context.drawLayer(this.background, 0, 0);
         context.drawString("Demo Module!", width, height + 20, 38, this.rightBound, StringEffect.NONE, Color.WHITE, DEMO_FONT);
-        context.drawImage(this.demoTexture, this.rightBound ? width - height : 0, 0, height, height);
     }
 }
@@ -0,0 +1,74 @@
+package de.labystudio.desktopmodules.benchmark;
+
+import com.google.gson.JsonObject;
+import de.labystudio.desktopmodules.core.DesktopModules;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of loading and saving the addon config with many module entries
+ *
+ * @author LabyStudio
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class AddonConfigBenchmark {
+
+    @Param({"1", "100"})
+    public int moduleCount;
+
+    private DesktopModules desktopModules;
+    private BenchmarkAddon addon;
+
+    @Setup
+    public void setup() throws Exception {
+        this.desktopModules = Benchmarks.createDesktopModules();
+
+        this.addon = new BenchmarkAddon();
+        this.addon.onPreInitialize(this.desktopModules);
+        this.addon.loadConfig();
+
+        // Fill the config with module entries
+        JsonObject modules = BenchmarkAddon.getConfigObject(this.addon.getConfig(), "modules");
+        for (int i = 0; i < this.moduleCount; i++) {
+            JsonObject module = new JsonObject();
+            module.addProperty("enabled", true);
+            module.addProperty("x", i);
+            module.addProperty("y", i);
+            modules.add("module" + i, module);
+        }
+        this.addon.saveConfig();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        Benchmarks.deleteWorkingDirectory(this.desktopModules);
+    }
+
+    @Benchmark
+    public void loadConfig() throws IOException {
+        this.addon.loadConfig();
+    }
+
+    @Benchmark
+    public void saveConfig() throws IOException {
+        this.addon.saveConfig();
+    }
+}
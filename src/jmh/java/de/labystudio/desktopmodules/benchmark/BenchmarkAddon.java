@@ -0,0 +1,31 @@
+package de.labystudio.desktopmodules.benchmark;
+
+import com.google.gson.JsonObject;
+import de.labystudio.desktopmodules.core.addon.Addon;
+
+/**
+ * Synthetic addon for the benchmarks
+ *
+ * @author LabyStudio
+ */
+public class BenchmarkAddon extends Addon {
+
+    @Override
+    public void onInitialize() {
+        // No implementation
+    }
+
+    @Override
+    public void onEnable() {
+        // No implementation
+    }
+
+    @Override
+    public void onDisable() {
+        // No implementation
+    }
+
+    public JsonObject getConfig() {
+        return this.config;
+    }
+}
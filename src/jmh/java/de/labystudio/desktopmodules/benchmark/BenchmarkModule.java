@@ -0,0 +1,45 @@
+package de.labystudio.desktopmodules.benchmark;
+
+import de.labystudio.desktopmodules.core.loader.TextureLoader;
+import de.labystudio.desktopmodules.core.module.Module;
+import de.labystudio.desktopmodules.core.renderer.IRenderContext;
+import de.labystudio.desktopmodules.core.renderer.font.StringEffect;
+
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+
+/**
+ * Synthetic module for the benchmarks
+ *
+ * @author LabyStudio
+ */
+public class BenchmarkModule extends Module<BenchmarkAddon> {
+
+    private BufferedImage texture;
+
+    public BenchmarkModule() {
+        super(250, 60);
+    }
+
+    @Override
+    public void loadTextures(TextureLoader textureLoader) {
+        this.texture = textureLoader.load("textures/demo/demo.png");
+    }
+
+    @Override
+    protected String getIconPath() {
+        return "textures/demo/demo.png";
+    }
+
+    @Override
+    public String getDisplayName() {
+        return "Benchmark Module";
+    }
+
+    @Override
+    public void onRender(IRenderContext context, int width, int height, int mouseX, int mouseY) {
+        context.drawRect(0, 0, width - 1, height - 1, new Color(50, 50, 50, 130));
+        context.drawString("Benchmark Module!", width, height + 20, 38, this.rightBound, StringEffect.NONE, Color.WHITE, DEFAULT_FONT);
+        context.drawImage(this.texture, this.rightBound ? width - height : 0, 0, height, height);
+    }
+}
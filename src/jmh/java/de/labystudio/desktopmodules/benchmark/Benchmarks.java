@@ -0,0 +1,67 @@
+package de.labystudio.desktopmodules.benchmark;
+
+import de.labystudio.desktopmodules.core.DesktopModules;
+import de.labystudio.desktopmodules.core.loader.ImmutableTextures;
+import de.labystudio.desktopmodules.core.loader.SourceClassLoader;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+/**
+ * Shared setup of the benchmarks
+ *
+ * @author LabyStudio
+ */
+public class Benchmarks {
+
+    /**
+     * Create a headless application instance in a temporary working directory
+     *
+     * @return Headless application instance
+     * @throws Exception exception during initialization of the application
+     */
+    public static DesktopModules createDesktopModules() throws Exception {
+        SourceClassLoader classLoader = new SourceClassLoader(new URL[0], Benchmarks.class.getClassLoader());
+        File workingDirectory = Files.createTempDirectory("desktopmodules-benchmark").toFile();
+        return new DesktopModules(classLoader, true, workingDirectory);
+    }
+
+    /**
+     * Delete the working directory of the given application instance
+     *
+     * @param desktopModules Application instance
+     * @throws IOException exception during deletion
+     */
+    public static void deleteWorkingDirectory(DesktopModules desktopModules) throws IOException {
+        Path directory = desktopModules.getSourceLoader().getAddonsDirectory().getParentFile().toPath();
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    /**
+     * Create a texture with a translucent pattern that is treated like a texture of the texture loader
+     *
+     * @param width  Texture width
+     * @param height Texture height
+     * @return Created texture
+     */
+    public static BufferedImage createTexture(int width, int height) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(new Color(50, 50, 50, 130));
+        graphics.fillRect(0, 0, width, height);
+        graphics.setColor(Color.WHITE);
+        graphics.fillOval(width / 4, height / 4, width / 2, height / 2);
+        graphics.dispose();
+        return ImmutableTextures.mark(image);
+    }
+}
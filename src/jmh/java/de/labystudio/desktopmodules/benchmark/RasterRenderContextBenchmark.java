@@ -0,0 +1,78 @@
+package de.labystudio.desktopmodules.benchmark;
+
+import de.labystudio.desktopmodules.core.renderer.font.Font;
+import de.labystudio.desktopmodules.core.renderer.font.FontStyle;
+import de.labystudio.desktopmodules.core.renderer.font.StringAlignment;
+import de.labystudio.desktopmodules.core.renderer.font.StringEffect;
+import de.labystudio.desktopmodules.core.renderer.raster.RasterRenderContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the render primitives of the software rasterizer
+ *
+ * @author LabyStudio
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class RasterRenderContextBenchmark {
+
+    private static final Font FONT = new Font("Dialog", FontStyle.PLAIN, 12);
+    private static final Color BACKGROUND = new Color(50, 50, 50, 130);
+
+    private final RasterRenderContext context = new RasterRenderContext();
+
+    private BufferedImage canvas;
+
+    private BufferedImage texture;
+
+    @Setup
+    public void setup() {
+        this.canvas = new BufferedImage(256, 64, BufferedImage.TYPE_INT_ARGB_PRE);
+        this.context.begin(this.canvas, null);
+
+        this.texture = Benchmarks.createTexture(128, 128);
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.context.end();
+    }
+
+    @Benchmark
+    public void drawString() {
+        this.context.drawString("Benchmark Module!", 10, 40, StringAlignment.LEFT, StringEffect.SHADOW, Color.WHITE, FONT);
+    }
+
+    @Benchmark
+    public int getStringWidth() {
+        return this.context.getStringWidth("Benchmark Module!", FONT);
+    }
+
+    @Benchmark
+    public void drawImage() {
+        this.context.drawImage(this.texture, 0, 0, 64, 64);
+    }
+
+    @Benchmark
+    public void drawGradientRect() {
+        this.context.drawGradientRect(0, 0, 256, 64, BACKGROUND, 0, 0, Color.BLACK, 0, 64);
+    }
+}
@@ -0,0 +1,77 @@
+package de.labystudio.desktopmodules.benchmark;
+
+import de.labystudio.desktopmodules.core.DesktopModules;
+import de.labystudio.desktopmodules.core.addon.Addon;
+import de.labystudio.desktopmodules.core.loader.SourceLoader;
+import de.labystudio.desktopmodules.core.module.Module;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of loading synthetic modules into the application
+ *
+ * @author LabyStudio
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class SourceLoaderBenchmark {
+
+    private static final int MODULE_COUNT = 100;
+
+    private DesktopModules desktopModules;
+    private SourceLoader sourceLoader;
+    private BenchmarkAddon addon;
+
+    @Setup
+    public void setup() throws Exception {
+        this.desktopModules = Benchmarks.createDesktopModules();
+        this.sourceLoader = this.desktopModules.getSourceLoader();
+
+        this.addon = new BenchmarkAddon();
+        this.addon.onPreInitialize(this.desktopModules);
+        this.addon.loadConfig();
+    }
+
+    @TearDown(Level.Invocation)
+    public void unloadModules() {
+        // Remove the MBeans and the scheduling state, so the next invocation doesn't replace them
+        for (Module<? extends Addon> module : this.addon.getModules()) {
+            this.desktopModules.getMetricsRegistry().unregister(module);
+            this.desktopModules.getTickScheduler().remove(module);
+            this.desktopModules.getFrameScheduler().remove(module);
+        }
+
+        this.sourceLoader.getModules().clear();
+        this.addon.getModules().clear();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        Benchmarks.deleteWorkingDirectory(this.desktopModules);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MODULE_COUNT)
+    public void loadModule() throws Exception {
+        for (int i = 0; i < MODULE_COUNT; i++) {
+            this.sourceLoader.loadModule(this.addon, BenchmarkModule.class);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package de.labystudio.desktopmodules.benchmark;
+
+import de.labystudio.desktopmodules.core.DesktopModules;
+import de.labystudio.desktopmodules.core.loader.TextureLoader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the texture decoding and resizing with and without the shared texture cache
+ *
+ * @author LabyStudio
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class TextureLoaderBenchmark {
+
+    @Param({"textures/core/icon.png", "textures/demo/demo.png"})
+    public String path;
+
+    @Param({"32", "128"})
+    public int size;
+
+    private DesktopModules desktopModules;
+    private TextureLoader textureLoader;
+
+    @Setup
+    public void setup() throws Exception {
+        this.desktopModules = Benchmarks.createDesktopModules();
+        this.textureLoader = this.desktopModules.getTextureLoader();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        this.textureLoader.shutdown();
+        Benchmarks.deleteWorkingDirectory(this.desktopModules);
+    }
+
+    @Benchmark
+    public BufferedImage load() {
+        return this.textureLoader.load(this.path, this.size, this.size);
+    }
+
+    @Benchmark
+    public BufferedImage loadUncached(UncachedLoader uncachedLoader) {
+        return uncachedLoader.textureLoader.load(this.path, this.size, this.size);
+    }
+
+    /**
+     * Texture loader with an own cache that is cleared before each invocation
+     */
+    @State(Scope.Thread)
+    public static class UncachedLoader {
+
+        private TextureLoader textureLoader;
+
+        @Setup(Level.Trial)
+        public void setup(TextureLoaderBenchmark benchmark) {
+            this.textureLoader = new TextureLoader(benchmark.desktopModules);
+        }
+
+        @Setup(Level.Invocation)
+        public void clearCache() {
+            this.textureLoader.clearCache();
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            this.textureLoader.shutdown();
+        }
+    }
+}
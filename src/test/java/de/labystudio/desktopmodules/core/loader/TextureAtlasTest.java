@@ -0,0 +1,93 @@
+package de.labystudio.desktopmodules.core.loader;
+
+import org.junit.Test;
+
+import java.awt.image.BufferedImage;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Tests of the sprite allocation of the texture atlas
+ *
+ * @author LabyStudio
+ */
+public class TextureAtlasTest {
+
+    @Test
+    public void spritesShareSheet() {
+        TextureAtlas atlas = new TextureAtlas(64, 32);
+        BufferedImage first = atlas.pack(createImage(16, 16, 0xFFFF0000));
+        BufferedImage second = atlas.pack(createImage(16, 16, 0xFF00FF00));
+
+        assertEquals(1, atlas.getSheetCount());
+        assertSame(first.getRaster().getDataBuffer(), second.getRaster().getDataBuffer());
+
+        // The sprites don't overlap
+        assertEquals(0xFFFF0000, first.getRGB(15, 15));
+        assertEquals(0xFF00FF00, second.getRGB(0, 0));
+    }
+
+    @Test
+    public void fullSheetCreatesNewSheet() {
+        // Two rows of two sprites fit into a sheet including the padding
+        TextureAtlas atlas = new TextureAtlas(64, 32);
+        for (int i = 0; i < 4; i++) {
+            atlas.pack(createImage(30, 30, 0xFFFFFFFF));
+        }
+        assertEquals(1, atlas.getSheetCount());
+
+        atlas.pack(createImage(30, 30, 0xFFFFFFFF));
+        assertEquals(2, atlas.getSheetCount());
+    }
+
+    @Test
+    public void largeTextureIsNotPacked() {
+        TextureAtlas atlas = new TextureAtlas(64, 32);
+        BufferedImage image = createImage(33, 8, 0xFFFFFFFF);
+
+        assertSame(image, atlas.pack(image));
+        assertEquals(0, atlas.getSheetCount());
+    }
+
+    @Test
+    public void spriteIsLoadedOncePerKey() {
+        TextureAtlas atlas = new TextureAtlas(64, 32);
+        AtomicInteger loads = new AtomicInteger();
+
+        BufferedImage first = atlas.get("sprite", () -> {
+            loads.incrementAndGet();
+            return createImage(8, 8, 0xFFFFFFFF);
+        });
+        BufferedImage second = atlas.get("sprite", () -> {
+            loads.incrementAndGet();
+            return createImage(8, 8, 0xFFFFFFFF);
+        });
+
+        assertSame(first, second);
+        assertNotSame(first, atlas.get("other", () -> createImage(8, 8, 0xFFFFFFFF)));
+        assertEquals(1, loads.get());
+        assertNull(atlas.get("missing", () -> null));
+    }
+
+    /**
+     * Create an image filled with the given color
+     *
+     * @param width  Image width
+     * @param height Image height
+     * @param argb   Fill color
+     * @return The filled image
+     */
+    private static BufferedImage createImage(int width, int height, int argb) {
+        BufferedImage image = TextureFormat.create(width, height);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                image.setRGB(x, y, argb);
+            }
+        }
+        return image;
+    }
+}
@@ -0,0 +1,84 @@
+package de.labystudio.desktopmodules.core.loader;
+
+import org.junit.Test;
+
+import java.awt.image.BufferedImage;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Tests of the shared texture cache
+ *
+ * @author LabyStudio
+ */
+public class TextureCacheTest {
+
+    private static final ClassLoader CLASS_LOADER = TextureCacheTest.class.getClassLoader();
+
+    private final TextureCache cache = new TextureCache();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private final Supplier<BufferedImage> loader = () -> {
+        this.loads.incrementAndGet();
+        return TextureFormat.create(4, 4);
+    };
+
+    @Test
+    public void textureIsLoadedOncePerKey() {
+        BufferedImage first = this.cache.get("First", CLASS_LOADER, "texture.png", 0, 0, this.loader);
+        BufferedImage second = this.cache.get("Second", CLASS_LOADER, "texture.png", 0, 0, this.loader);
+
+        assertSame(first, second);
+        assertEquals(1, this.loads.get());
+        assertEquals(1, this.cache.size());
+    }
+
+    @Test
+    public void sizesAreSeparateEntries() {
+        BufferedImage original = this.cache.get("Owner", CLASS_LOADER, "texture.png", 0, 0, this.loader);
+        BufferedImage resized = this.cache.get("Owner", CLASS_LOADER, "texture.png", 8, 8, this.loader);
+
+        assertNotSame(original, resized);
+        assertEquals(2, this.loads.get());
+        assertEquals(2, this.cache.size());
+    }
+
+    @Test
+    public void releasedTextureStaysCached() {
+        BufferedImage image = this.cache.get("Owner", CLASS_LOADER, "texture.png", 0, 0, this.loader);
+        this.cache.release("Owner");
+
+        assertSame(image, this.cache.getIfPresent(CLASS_LOADER, "texture.png", 0, 0));
+        assertSame(image, this.cache.get("Owner", CLASS_LOADER, "texture.png", 0, 0, this.loader));
+        assertEquals(1, this.loads.get());
+    }
+
+    @Test
+    public void failedLoadIsRetried() {
+        assertNull(this.cache.get("Owner", CLASS_LOADER, "missing.png", 0, 0, () -> {
+            this.loads.incrementAndGet();
+            return null;
+        }));
+        assertNull(this.cache.getIfPresent(CLASS_LOADER, "missing.png", 0, 0));
+
+        this.cache.get("Owner", CLASS_LOADER, "missing.png", 0, 0, this.loader);
+        assertEquals(2, this.loads.get());
+    }
+
+    @Test
+    public void clearRemovesAllTextures() {
+        this.cache.get("Owner", CLASS_LOADER, "texture.png", 0, 0, this.loader);
+        this.cache.clear();
+
+        assertEquals(0, this.cache.size());
+        assertNull(this.cache.getIfPresent(CLASS_LOADER, "texture.png", 0, 0));
+
+        this.cache.get("Owner", CLASS_LOADER, "texture.png", 0, 0, this.loader);
+        assertEquals(2, this.loads.get());
+    }
+}
@@ -0,0 +1,133 @@
+package de.labystudio.desktopmodules.core.renderer.headless;
+
+import de.labystudio.desktopmodules.core.module.render.IRenderCallback;
+import de.labystudio.desktopmodules.core.renderer.IRenderContext;
+import org.junit.Test;
+
+import java.awt.Color;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests of the offscreen renderer
+ *
+ * @author LabyStudio
+ */
+public class HeadlessModuleRendererTest {
+
+    @Test
+    public void requestFrameOnlySchedulesFrame() {
+        TestCallback callback = new TestCallback();
+        HeadlessModuleRenderer renderer = new HeadlessModuleRenderer(callback, 10, 10);
+
+        renderer.requestFrame();
+
+        // The frame is rendered by the frame scheduler
+        assertTrue(renderer.isFrameInvalid());
+        assertEquals(1, callback.scheduledFrames);
+        assertEquals(0, callback.renders);
+        assertEquals(0, renderer.getFrameCount());
+    }
+
+    @Test
+    public void invalidFrameIsRendered() {
+        TestCallback callback = new TestCallback();
+        HeadlessModuleRenderer renderer = new HeadlessModuleRenderer(callback, 10, 10);
+
+        renderer.invalidateFrame();
+        renderer.updateFrame();
+
+        assertFalse(renderer.isFrameInvalid());
+        assertEquals(1, callback.renders);
+        assertEquals(1, renderer.getFrameCount());
+        assertEquals(Color.RED.getRGB(), renderer.getImage().getRGB(5, 5));
+
+        // A valid frame is skipped
+        renderer.updateFrame();
+        assertEquals(1, callback.renders);
+    }
+
+    @Test
+    public void renderErrorIsSwallowed() {
+        TestCallback callback = new TestCallback();
+        callback.fail = true;
+        HeadlessModuleRenderer renderer = new HeadlessModuleRenderer(callback, 10, 10);
+
+        renderer.invalidateFrame();
+        renderer.updateFrame();
+
+        assertEquals(1, callback.renders);
+        assertEquals(0, renderer.getFrameCount());
+        assertFalse(renderer.isFrameInvalid());
+    }
+
+    @Test
+    public void softwareRenderErrorIsSwallowed() {
+        TestCallback callback = new TestCallback();
+        callback.fail = true;
+        HeadlessModuleRenderer renderer = new HeadlessModuleRenderer(callback, 10, 10, true);
+
+        renderer.invalidateFrame();
+        renderer.updateFrame();
+
+        // The rasterizer is usable for the next frame
+        callback.fail = false;
+        renderer.invalidateFrame();
+        renderer.updateFrame();
+
+        assertEquals(1, renderer.getFrameCount());
+        assertEquals(Color.RED.getRGB(), renderer.getImage().getRGB(5, 5));
+    }
+
+    /**
+     * Render callback that fills the frame or fails on purpose
+     */
+    private static class TestCallback implements IRenderCallback {
+
+        private int renders;
+        private int scheduledFrames;
+        private boolean fail;
+
+        @Override
+        public void onRender(IRenderContext context, int width, int height, int mouseX, int mouseY) {
+            this.renders++;
+
+            if (this.fail) {
+                throw new IllegalStateException("Render failed on purpose");
+            }
+            context.drawRect(0, 0, width, height, Color.RED);
+        }
+
+        @Override
+        public void onRender(IRenderContext context, int width, int height) {
+            // Not used by the renderers
+        }
+
+        @Override
+        public void scheduleFrame() {
+            this.scheduledFrames++;
+        }
+
+        @Override
+        public void onMousePressed(int x, int y, int mouseButton) {
+            // No implementation
+        }
+
+        @Override
+        public void onMouseReleased(int x, int y, int mouseButton) {
+            // No implementation
+        }
+
+        @Override
+        public void onMouseDragged(int x, int y, int mouseButton) {
+            // No implementation
+        }
+
+        @Override
+        public void onMouseScroll(int x, int y, int scrollAmount) {
+            // No implementation
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package de.labystudio.desktopmodules.core.renderer.raster;
+
+import org.junit.Test;
+
+import java.awt.AlphaComposite;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests of the software blending against the Java2D source over composite
+ *
+ * @author LabyStudio
+ */
+public class RasterRenderContextTest {
+
+    private static final int SIZE = 16;
+
+    /**
+     * Maximum difference of a color channel to Java2D due to rounding
+     */
+    private static final int TOLERANCE = 1;
+
+    private static final Color BACKGROUND = new Color(20, 60, 200, 160);
+
+    private final RasterRenderContext context = new RasterRenderContext();
+
+    @Test
+    public void opaqueRectReplacesPixels() {
+        BufferedImage image = createImage();
+
+        this.context.begin(image, null);
+        this.context.drawRectWH(2, 2, 4, 4, Color.RED);
+        this.context.end();
+
+        assertEquals(0xFFFF0000, getPixel(image, 2, 2));
+        assertEquals(0xFFFF0000, getPixel(image, 5, 5));
+        assertEquals(premultipliedBackground(), getPixel(image, 6, 6));
+    }
+
+    @Test
+    public void translucentRectMatchesJava2D() {
+        for (int alpha : new int[]{1, 64, 128, 200, 254}) {
+            Color color = new Color(255, 128, 10, alpha);
+
+            BufferedImage image = createImage();
+            this.context.begin(image, null);
+            this.context.drawRectWH(0, 0, SIZE, SIZE, color);
+            this.context.end();
+
+            BufferedImage reference = createImage();
+            Graphics2D graphics = reference.createGraphics();
+            graphics.setColor(color);
+            graphics.fillRect(0, 0, SIZE, SIZE);
+            graphics.dispose();
+
+            assertPixelsEqual(reference, image);
+        }
+    }
+
+    @Test
+    public void alphaMatchesJava2D() {
+        BufferedImage image = createImage();
+        this.context.begin(image, null);
+        this.context.setAlpha(0.5F);
+        this.context.drawRectWH(0, 0, SIZE, SIZE, new Color(0, 255, 0, 200));
+        this.context.end();
+
+        BufferedImage reference = createImage();
+        Graphics2D graphics = reference.createGraphics();
+        graphics.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.5F));
+        graphics.setColor(new Color(0, 255, 0, 200));
+        graphics.fillRect(0, 0, SIZE, SIZE);
+        graphics.dispose();
+
+        assertPixelsEqual(reference, image);
+    }
+
+    @Test
+    public void translucentImageMatchesJava2D() {
+        BufferedImage source = new BufferedImage(SIZE, SIZE, BufferedImage.TYPE_INT_ARGB_PRE);
+        for (int y = 0; y < SIZE; y++) {
+            for (int x = 0; x < SIZE; x++) {
+                source.setRGB(x, y, new Color(x * 16, y * 16, 128, (x + y) * 8).getRGB());
+            }
+        }
+
+        BufferedImage image = createImage();
+        this.context.begin(image, null);
+        this.context.drawImage(source, 0, 0);
+        this.context.end();
+
+        BufferedImage reference = createImage();
+        Graphics2D graphics = reference.createGraphics();
+        graphics.drawImage(source, 0, 0, null);
+        graphics.dispose();
+
+        assertPixelsEqual(reference, image);
+    }
+
+    @Test
+    public void drawingIsClipped() {
+        BufferedImage image = createImage();
+
+        this.context.begin(image, new Rectangle(0, 0, 4, 4));
+        this.context.drawRectWH(0, 0, SIZE, SIZE, Color.RED);
+        this.context.end();
+
+        assertEquals(0xFFFF0000, getPixel(image, 3, 3));
+        assertEquals(premultipliedBackground(), getPixel(image, 4, 4));
+        assertEquals(premultipliedBackground(), getPixel(image, 0, 4));
+    }
+
+    @Test
+    public void clearOnlyClearsClip() {
+        BufferedImage image = createImage();
+
+        this.context.begin(image, new Rectangle(4, 4, 4, 4));
+        this.context.clear();
+        this.context.end();
+
+        assertEquals(0, getPixel(image, 4, 4));
+        assertEquals(0, getPixel(image, 7, 7));
+        assertEquals(premultipliedBackground(), getPixel(image, 8, 8));
+        assertEquals(premultipliedBackground(), getPixel(image, 3, 3));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void nonPremultipliedTargetIsRejected() {
+        this.context.begin(new BufferedImage(SIZE, SIZE, BufferedImage.TYPE_INT_ARGB), null);
+    }
+
+    /**
+     * Create a premultiplied image filled with the translucent background
+     *
+     * @return The filled image
+     */
+    private static BufferedImage createImage() {
+        BufferedImage image = new BufferedImage(SIZE, SIZE, BufferedImage.TYPE_INT_ARGB_PRE);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setComposite(AlphaComposite.Src);
+        graphics.setColor(BACKGROUND);
+        graphics.fillRect(0, 0, SIZE, SIZE);
+        graphics.dispose();
+        return image;
+    }
+
+    /**
+     * Get the premultiplied background pixel
+     *
+     * @return Premultiplied ARGB value
+     */
+    private static int premultipliedBackground() {
+        return getPixel(createImage(), 0, 0);
+    }
+
+    /**
+     * Get the raw premultiplied pixel of the given image
+     *
+     * @param image The image
+     * @param x     Pixel x position
+     * @param y     Pixel y position
+     * @return Premultiplied ARGB value
+     */
+    private static int getPixel(BufferedImage image, int x, int y) {
+        return ((DataBufferInt) image.getRaster().getDataBuffer()).getData()[y * image.getWidth() + x];
+    }
+
+    /**
+     * Compare all premultiplied channels of both images within the rounding tolerance
+     *
+     * @param expected The reference image
+     * @param actual   The rasterized image
+     */
+    private static void assertPixelsEqual(BufferedImage expected, BufferedImage actual) {
+        for (int y = 0; y < SIZE; y++) {
+            for (int x = 0; x < SIZE; x++) {
+                int expectedPixel = getPixel(expected, x, y);
+                int actualPixel = getPixel(actual, x, y);
+
+                for (int shift = 0; shift < 32; shift += 8) {
+                    int difference = Math.abs((expectedPixel >>> shift & 0xFF) - (actualPixel >>> shift & 0xFF));
+                    if (difference > TOLERANCE) {
+                        fail(String.format("Pixel %d,%d: expected %08X but was %08X", x, y, expectedPixel, actualPixel));
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package de.labystudio.desktopmodules.core.renderer.record;
+
+import de.labystudio.desktopmodules.core.loader.ImmutableTextures;
+import de.labystudio.desktopmodules.core.loader.TextureFormat;
+import org.junit.Test;
+
+import java.awt.Color;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.util.function.Consumer;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests of the frame comparison of the display lists
+ *
+ * @author LabyStudio
+ */
+public class DisplayListTest {
+
+    private final RecordingRenderContext context = new RecordingRenderContext(null);
+
+    @Test
+    public void sameOperationsAreEqual() {
+        Consumer<RecordingRenderContext> frame = context -> {
+            context.drawRect(0, 0, 10, 10, Color.RED);
+            context.translate(2, 3);
+            context.setAlpha(0.5F);
+            context.drawRectWH(1, 1, 4, 4, Color.BLUE);
+        };
+
+        assertTrue(record(frame).contentEquals(record(frame)));
+    }
+
+    @Test
+    public void changedValuesAreNotEqual() {
+        DisplayList red = record(context -> context.drawRect(0, 0, 10, 10, Color.RED));
+
+        assertFalse(red.contentEquals(record(context -> context.drawRect(0, 0, 10, 10, Color.BLUE))));
+        assertFalse(red.contentEquals(record(context -> context.drawRect(0, 0, 10, 11, Color.RED))));
+        assertFalse(red.contentEquals(record(context -> {
+            context.drawRect(0, 0, 10, 10, Color.RED);
+            context.drawRect(0, 0, 10, 10, Color.RED);
+        })));
+    }
+
+    @Test
+    public void immutableTextureIsComparedByIdentity() {
+        BufferedImage texture = ImmutableTextures.mark(TextureFormat.create(4, 4));
+        DisplayList displayList = record(context -> context.drawImage(texture, 0, 0));
+
+        assertTrue(displayList.contentEquals(record(context -> context.drawImage(texture, 0, 0))));
+
+        BufferedImage other = ImmutableTextures.mark(TextureFormat.create(4, 4));
+        assertFalse(displayList.contentEquals(record(context -> context.drawImage(other, 0, 0))));
+    }
+
+    @Test
+    public void mutableImageIsAlwaysChanged() {
+        // The pixels of the image could have been modified in place
+        BufferedImage image = TextureFormat.create(4, 4);
+
+        DisplayList displayList = record(context -> context.drawImage(image, 0, 0));
+        assertFalse(displayList.contentEquals(record(context -> context.drawImage(image, 0, 0))));
+    }
+
+    @Test
+    public void clearedListIsEmpty() {
+        DisplayList displayList = record(context -> context.drawRect(0, 0, 10, 10, Color.RED));
+        assertFalse(displayList.isEmpty());
+
+        displayList.clear();
+        assertTrue(displayList.isEmpty());
+        assertTrue(displayList.contentEquals(new DisplayList()));
+    }
+
+    /**
+     * Record a frame into a new display list
+     *
+     * @param frame Render calls of the frame
+     * @return The recorded display list
+     */
+    private DisplayList record(Consumer<RecordingRenderContext> frame) {
+        DisplayList displayList = new DisplayList();
+        this.context.begin(displayList, new Rectangle(0, 0, 20, 20));
+        frame.accept(this.context);
+        return displayList;
+    }
+}
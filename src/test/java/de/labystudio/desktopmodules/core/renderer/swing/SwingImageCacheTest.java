@@ -0,0 +1,87 @@
+package de.labystudio.desktopmodules.core.renderer.swing;
+
+import de.labystudio.desktopmodules.core.loader.ImmutableTextures;
+import de.labystudio.desktopmodules.core.loader.TextureFormat;
+import org.junit.Test;
+
+import java.awt.image.BufferedImage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests of the size limited cache of scaled image copies
+ *
+ * @author LabyStudio
+ */
+public class SwingImageCacheTest {
+
+    /**
+     * Size of a 16x16 copy in bytes
+     */
+    private static final long COPY_BYTES = 16 * 16 * 4;
+
+    @Test
+    public void mutableImageIsNotCached() {
+        SwingImageCache cache = new SwingImageCache();
+        assertNull(cache.get(TextureFormat.create(8, 8), 16, 16, null));
+        assertEquals(0, cache.getTotalBytes());
+    }
+
+    @Test
+    public void copyIsReused() {
+        SwingImageCache cache = new SwingImageCache();
+        BufferedImage image = ImmutableTextures.mark(TextureFormat.create(8, 8));
+
+        BufferedImage copy = cache.get(image, 16, 16, null);
+        assertNotNull(copy);
+        assertEquals(16, copy.getWidth());
+        assertSame(copy, cache.get(image, 16, 16, null));
+        assertNotSame(copy, cache.get(image, 32, 32, null));
+    }
+
+    @Test
+    public void oversizeCopyIsNotCached() {
+        SwingImageCache cache = new SwingImageCache(COPY_BYTES * 4);
+        BufferedImage image = ImmutableTextures.mark(TextureFormat.create(8, 8));
+
+        assertNull(cache.get(image, 32, 32, null));
+    }
+
+    @Test
+    public void cacheStaysWithinLimit() {
+        SwingImageCache cache = new SwingImageCache(COPY_BYTES * 4);
+        BufferedImage[] images = new BufferedImage[10];
+
+        for (int i = 0; i < images.length; i++) {
+            images[i] = ImmutableTextures.mark(TextureFormat.create(8, 8));
+            cache.get(images[i], 16, 16, null);
+            assertTrue(cache.getTotalBytes() <= COPY_BYTES * 4);
+        }
+        assertEquals(COPY_BYTES * 4, cache.getTotalBytes());
+    }
+
+    @Test
+    public void leastRecentlyUsedCopyIsEvicted() {
+        SwingImageCache cache = new SwingImageCache(COPY_BYTES * 4);
+        BufferedImage[] images = new BufferedImage[4];
+        BufferedImage[] copies = new BufferedImage[images.length];
+
+        for (int i = 0; i < images.length; i++) {
+            images[i] = ImmutableTextures.mark(TextureFormat.create(8, 8));
+            copies[i] = cache.get(images[i], 16, 16, null);
+        }
+
+        // Use the first copy again, the second copy is now the least recently used one
+        cache.get(images[0], 16, 16, null);
+        BufferedImage image = ImmutableTextures.mark(TextureFormat.create(8, 8));
+        cache.get(image, 16, 16, null);
+
+        assertSame(copies[0], cache.get(images[0], 16, 16, null));
+        assertNotSame(copies[1], cache.get(images[1], 16, 16, null));
+    }
+}
@@ -0,0 +1,122 @@
+package de.labystudio.desktopmodules.core.scheduler;
+
+import de.labystudio.desktopmodules.core.DesktopModules;
+import de.labystudio.desktopmodules.core.module.render.IModuleRenderer;
+import de.labystudio.desktopmodules.core.renderer.headless.HeadlessModuleRenderer;
+import de.labystudio.desktopmodules.test.TestAddon;
+import de.labystudio.desktopmodules.test.TestModule;
+import de.labystudio.desktopmodules.test.Tests;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests of the frame pass with failing modules
+ *
+ * @author LabyStudio
+ */
+public class FrameSchedulerTest {
+
+    private DesktopModules desktopModules;
+    private FrameScheduler frameScheduler;
+
+    private TestAddon addon;
+
+    /**
+     * Time of the last frame pass in nanoseconds
+     */
+    private long now = System.nanoTime();
+
+    @Before
+    public void setUp() throws Exception {
+        this.desktopModules = Tests.createDesktopModules();
+        this.frameScheduler = this.desktopModules.getFrameScheduler();
+        this.addon = Tests.createAddon(this.desktopModules);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        Tests.shutdown(this.desktopModules);
+    }
+
+    @Test
+    public void failingRendererDoesNotStopFramePass() throws Exception {
+        TestModule failingModule = (TestModule) this.desktopModules.getSourceLoader()
+                .loadModule(this.addon, FailingRendererModule.class);
+        TestModule healthyModule = (TestModule) this.desktopModules.getSourceLoader()
+                .loadModule(this.addon, TestModule.class);
+        failingModule.invalidate();
+        healthyModule.invalidate();
+
+        updateFrames();
+
+        // The module after the failing one is still rendered
+        assertEquals(1, healthyModule.getRenders());
+        assertEquals(1, failingModule.getMetrics().getExceptions());
+
+        TickScheduler tickScheduler = this.desktopModules.getTickScheduler();
+        assertTrue(tickScheduler.getLastFailure(failingModule).startsWith("Frame failed"));
+        assertFalse(tickScheduler.isQuarantined(failingModule));
+    }
+
+    @Test
+    public void failingRenderIsSwallowed() throws Exception {
+        TestModule failingModule = (TestModule) this.desktopModules.getSourceLoader()
+                .loadModule(this.addon, TestModule.class);
+        TestModule healthyModule = (TestModule) this.desktopModules.getSourceLoader()
+                .loadModule(this.addon, TestModule.class);
+        failingModule.setFailRender(true);
+        failingModule.invalidate();
+        healthyModule.invalidate();
+
+        updateFrames();
+
+        // The headless renderer reports the error itself instead of rethrowing it
+        HeadlessModuleRenderer renderer = (HeadlessModuleRenderer) failingModule.getModuleRenderer();
+        assertEquals(0, renderer.getFrameCount());
+        assertEquals(1, failingModule.getMetrics().getExceptions());
+        assertEquals(1, healthyModule.getRenders());
+    }
+
+    @Test
+    public void validFrameIsSkipped() throws Exception {
+        TestModule module = (TestModule) this.desktopModules.getSourceLoader()
+                .loadModule(this.addon, TestModule.class);
+        module.invalidate();
+
+        updateFrames();
+        updateFrames();
+
+        assertEquals(1, module.getRenders());
+    }
+
+    /**
+     * Run a frame pass that is due for all modules
+     */
+    private void updateFrames() {
+        this.now += TimeUnit.SECONDS.toNanos(1);
+        this.frameScheduler.updateFrames(this.now, this.now + TimeUnit.SECONDS.toNanos(1));
+    }
+
+    /**
+     * Module whose renderer throws on each frame
+     */
+    public static class FailingRendererModule extends TestModule {
+
+        @Override
+        protected IModuleRenderer createRenderer() {
+            return new HeadlessModuleRenderer(this, 20, 10) {
+                @Override
+                public void updateFrame() {
+                    throw new IllegalStateException("Frame failed on purpose");
+                }
+            };
+        }
+    }
+}
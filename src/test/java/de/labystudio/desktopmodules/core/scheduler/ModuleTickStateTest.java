@@ -0,0 +1,86 @@
+package de.labystudio.desktopmodules.core.scheduler;
+
+import org.junit.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests of the scheduling state of a module
+ *
+ * @author LabyStudio
+ */
+public class ModuleTickStateTest {
+
+    @Test
+    public void updateAdvancesByInterval() {
+        ModuleTickState state = new ModuleTickState();
+        state.update(1000, 100);
+        assertEquals(1000, state.getLastTick());
+
+        // A late tick must not shift the following ticks
+        state.update(1130, 100);
+        assertEquals(1100, state.getLastTick());
+    }
+
+    @Test
+    public void updateResetsAfterFallingBehind() {
+        ModuleTickState state = new ModuleTickState();
+        state.update(1000, 100);
+
+        // Catching up on all missed ticks would flood the module
+        state.update(1500, 100);
+        assertEquals(1500, state.getLastTick());
+    }
+
+    @Test
+    public void quarantineEndsAtDeadline() {
+        ModuleTickState state = new ModuleTickState();
+        assertFalse(state.isQuarantined(0));
+
+        state.quarantine(1000);
+        assertTrue(state.isQuarantined(999));
+        assertFalse(state.isQuarantined(1000));
+        assertEquals(1, state.getQuarantines());
+    }
+
+    @Test
+    public void releaseResetsBackoff() {
+        ModuleTickState state = new ModuleTickState();
+        state.fail("Test");
+        state.quarantine(1000);
+        state.release();
+
+        assertFalse(state.isQuarantined(0));
+        assertEquals(0, state.getQuarantines());
+        assertNull(state.getLastFailure());
+    }
+
+    @Test
+    public void failuresAreCountedInARow() {
+        ModuleTickState state = new ModuleTickState();
+        assertEquals(1, state.fail("First"));
+        assertEquals(2, state.fail("Second"));
+        assertEquals("Second", state.getLastFailure());
+
+        state.succeed();
+        assertEquals(1, state.fail("Third"));
+    }
+
+    @Test
+    public void tickingUntilTaskIsDone() {
+        ModuleTickState state = new ModuleTickState();
+        assertFalse(state.isTicking());
+
+        CompletableFuture<Void> task = new CompletableFuture<>();
+        state.setTask(task);
+        assertTrue(state.isTicking());
+
+        task.complete(null);
+        assertFalse(state.isTicking());
+    }
+}
@@ -0,0 +1,92 @@
+package de.labystudio.desktopmodules.core.scheduler;
+
+import de.labystudio.desktopmodules.core.DesktopModules;
+import de.labystudio.desktopmodules.test.TestAddon;
+import de.labystudio.desktopmodules.test.TestModule;
+import de.labystudio.desktopmodules.test.Tests;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests of the tick thread with failing modules
+ *
+ * @author LabyStudio
+ */
+public class TickSchedulerTest {
+
+    private static final long TIMEOUT = 5000;
+
+    private DesktopModules desktopModules;
+    private TickScheduler tickScheduler;
+
+    private TestModule failingModule;
+    private TestModule healthyModule;
+
+    @Before
+    public void setUp() throws Exception {
+        this.desktopModules = Tests.createDesktopModules();
+        this.tickScheduler = this.desktopModules.getTickScheduler();
+
+        TestAddon addon = Tests.createAddon(this.desktopModules);
+        this.failingModule = (TestModule) this.desktopModules.getSourceLoader().loadModule(addon, TestModule.class);
+        this.healthyModule = (TestModule) this.desktopModules.getSourceLoader().loadModule(addon, TestModule.class);
+        this.failingModule.setTickInterval(10);
+        this.healthyModule.setTickInterval(10);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        Tests.shutdown(this.desktopModules);
+    }
+
+    @Test
+    public void failingTickIsQuarantined() throws Exception {
+        this.failingModule.setFailTick(true);
+        this.tickScheduler.start();
+
+        assertTrue(Tests.await(() -> this.tickScheduler.isQuarantined(this.failingModule), TIMEOUT));
+        assertTrue(this.tickScheduler.getLastFailure(this.failingModule).startsWith("Tick failed"));
+
+        // The other module keeps ticking
+        int ticks = this.healthyModule.getTicks();
+        assertTrue(Tests.await(() -> this.healthyModule.getTicks() > ticks + 10, TIMEOUT));
+        assertFalse(this.tickScheduler.isQuarantined(this.healthyModule));
+
+        // No ticks during the quarantine
+        int failedTicks = this.failingModule.getTicks();
+        Thread.sleep(200);
+        assertTrue(this.failingModule.getTicks() == failedTicks);
+    }
+
+    @Test
+    public void failingRenderDoesNotStopTickThread() throws Exception {
+        this.failingModule.setFailRender(true);
+        this.tickScheduler.start();
+
+        assertTrue(Tests.await(() -> this.failingModule.getMetrics().getExceptions() > 1, TIMEOUT));
+
+        // The tick thread survived and keeps ticking and rendering the other module
+        int ticks = this.healthyModule.getTicks();
+        int renders = this.healthyModule.getRenders();
+        assertTrue(Tests.await(() -> this.healthyModule.getTicks() > ticks + 10, TIMEOUT));
+        assertTrue(Tests.await(() -> this.healthyModule.getRenders() > renders + 2, TIMEOUT));
+    }
+
+    @Test
+    public void releaseEndsQuarantine() throws Exception {
+        this.failingModule.setFailTick(true);
+        this.tickScheduler.start();
+        assertTrue(Tests.await(() -> this.tickScheduler.isQuarantined(this.failingModule), TIMEOUT));
+
+        this.failingModule.setFailTick(false);
+        this.tickScheduler.release(this.failingModule);
+        assertFalse(this.tickScheduler.isQuarantined(this.failingModule));
+
+        int ticks = this.failingModule.getTicks();
+        assertTrue(Tests.await(() -> this.failingModule.getTicks() > ticks + 10, TIMEOUT));
+    }
+}
@@ -0,0 +1,115 @@
+package de.labystudio.desktopmodules.core.scheduler;
+
+import de.labystudio.desktopmodules.core.DesktopModules;
+import de.labystudio.desktopmodules.test.TestModule;
+import de.labystudio.desktopmodules.test.Tests;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests of the quarantine of failing modules
+ *
+ * @author LabyStudio
+ */
+public class TickWatchdogTest {
+
+    private static final long BUDGET = TimeUnit.MILLISECONDS.toNanos(50);
+
+    private DesktopModules desktopModules;
+    private TestModule module;
+
+    private final TickWatchdog watchdog = new TickWatchdog(new HashMap<>());
+
+    @Before
+    public void setUp() throws Exception {
+        this.desktopModules = Tests.createDesktopModules();
+        this.module = (TestModule) this.desktopModules.getSourceLoader()
+                .loadModule(Tests.createAddon(this.desktopModules), TestModule.class);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        Tests.shutdown(this.desktopModules);
+    }
+
+    @Test
+    public void quarantineAfterRepeatedFailures() {
+        ModuleTickState state = new ModuleTickState();
+        Exception error = new IllegalStateException("Test");
+
+        this.watchdog.onTickDone(this.module, state, 0, BUDGET, error);
+        this.watchdog.onTickDone(this.module, state, 0, BUDGET, error);
+        assertFalse(state.isQuarantined(System.nanoTime()));
+
+        long now = System.nanoTime();
+        this.watchdog.onTickDone(this.module, state, 0, BUDGET, error);
+        assertTrue(state.isQuarantined(System.nanoTime()));
+        assertTrue(state.getLastFailure().startsWith("Tick failed"));
+
+        // The first quarantine lasts one second
+        long backoff = state.getQuarantinedUntil() - now;
+        assertTrue(backoff >= TimeUnit.SECONDS.toNanos(1));
+        assertTrue(backoff < TimeUnit.SECONDS.toNanos(2));
+    }
+
+    @Test
+    public void backoffDoublesWithEachQuarantine() {
+        ModuleTickState state = new ModuleTickState();
+        Exception error = new IllegalStateException("Test");
+
+        for (int i = 0; i < 6; i++) {
+            this.watchdog.onTickDone(this.module, state, 0, BUDGET, error);
+        }
+        long backoff = state.getQuarantinedUntil() - System.nanoTime();
+
+        assertEquals(2, state.getQuarantines());
+        assertTrue(backoff > TimeUnit.SECONDS.toNanos(1));
+        assertTrue(backoff <= TimeUnit.SECONDS.toNanos(2));
+    }
+
+    @Test
+    public void overrunCountsAsFailure() {
+        ModuleTickState state = new ModuleTickState();
+
+        for (int i = 0; i < 3; i++) {
+            this.watchdog.onTickDone(this.module, state, BUDGET + 1, BUDGET, null);
+        }
+
+        assertTrue(state.isQuarantined(System.nanoTime()));
+        assertTrue(state.getLastFailure().startsWith("Tick exceeded budget"));
+    }
+
+    @Test
+    public void frameFailureCountsAsFailure() {
+        ModuleTickState state = new ModuleTickState();
+        Exception error = new IllegalStateException("Test");
+
+        this.watchdog.onTickDone(this.module, state, 0, BUDGET, error);
+        this.watchdog.onFrameFailed(this.module, state, error);
+        this.watchdog.onFrameFailed(this.module, state, error);
+
+        assertTrue(state.isQuarantined(System.nanoTime()));
+        assertTrue(state.getLastFailure().startsWith("Frame failed"));
+    }
+
+    @Test
+    public void successResetsFailures() {
+        ModuleTickState state = new ModuleTickState();
+        Exception error = new IllegalStateException("Test");
+
+        this.watchdog.onTickDone(this.module, state, 0, BUDGET, error);
+        this.watchdog.onTickDone(this.module, state, 0, BUDGET, error);
+        this.watchdog.onTickDone(this.module, state, 0, BUDGET, null);
+        this.watchdog.onTickDone(this.module, state, 0, BUDGET, error);
+
+        assertFalse(state.isQuarantined(System.nanoTime()));
+    }
+}
@@ -0,0 +1,149 @@
+package de.labystudio.desktopmodules.core.task;
+
+import de.labystudio.desktopmodules.core.DesktopModules;
+import de.labystudio.desktopmodules.core.scheduler.TickScheduler;
+import de.labystudio.desktopmodules.test.TestAddon;
+import de.labystudio.desktopmodules.test.TestModule;
+import de.labystudio.desktopmodules.test.Tests;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests of the task queue limits and the delivery of the results
+ *
+ * @author LabyStudio
+ */
+public class TaskServiceTest {
+
+    private static final long TIMEOUT = 5000;
+
+    private DesktopModules desktopModules;
+    private TaskService taskService;
+    private TestAddon addon;
+
+    @Before
+    public void setUp() throws Exception {
+        this.desktopModules = Tests.createDesktopModules();
+        this.taskService = this.desktopModules.getTaskService();
+        this.addon = Tests.createAddon(this.desktopModules);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        Tests.shutdown(this.desktopModules);
+    }
+
+    @Test
+    public void tasksOverAddonCapacityAreRejected() throws Exception {
+        CountDownLatch latch = new CountDownLatch(1);
+        List<AsyncTask<Object>> tasks = new ArrayList<>();
+
+        // Fill the running slots and the queue of the addon
+        int capacity = this.addon.getMaxConcurrentTasks() + 64;
+        for (int i = 0; i < capacity; i++) {
+            tasks.add(this.taskService.submit(this.addon, null, () -> {
+                latch.await();
+                return null;
+            }, null));
+        }
+        for (AsyncTask<Object> task : tasks) {
+            assertFalse(task.isDone());
+        }
+
+        // The next task is done without running
+        AsyncTask<Object> rejected = this.taskService.submit(this.addon, null, () -> {
+            throw new IllegalStateException("Rejected task was executed");
+        }, null);
+        assertTrue(rejected.isDone());
+        assertFalse(rejected.isCancelled());
+
+        latch.countDown();
+    }
+
+    @Test
+    public void resultIsDeliveredOnRunCompletions() throws Exception {
+        AtomicReference<Integer> result = new AtomicReference<>();
+        AtomicReference<Thread> callbackThread = new AtomicReference<>();
+
+        AsyncTask<Integer> task = this.taskService.submit(this.addon, null, () -> 42, value -> {
+            result.set(value);
+            callbackThread.set(Thread.currentThread());
+        });
+
+        // The result waits for the tick thread
+        Thread.sleep(100);
+        assertNull(result.get());
+        assertFalse(task.isDone());
+
+        assertTrue(Tests.await(() -> {
+            this.taskService.runCompletions();
+            return result.get() != null;
+        }, TIMEOUT));
+        assertEquals(42, (int) result.get());
+        assertSame(Thread.currentThread(), callbackThread.get());
+        assertTrue(task.isDone());
+    }
+
+    @Test
+    public void cancelledTaskHasNoResult() throws Exception {
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicReference<Object> result = new AtomicReference<>();
+
+        AsyncTask<Object> task = this.taskService.submit(this.addon, null, () -> {
+            latch.await();
+            return "Result";
+        }, result::set);
+        this.taskService.cancel(this.addon);
+        latch.countDown();
+
+        Thread.sleep(100);
+        this.taskService.runCompletions();
+        assertTrue(task.isCancelled());
+        assertNull(result.get());
+    }
+
+    @Test
+    public void resultOfTickingModuleIsDeferred() throws Exception {
+        TestModule blockedModule = (TestModule) this.desktopModules.getSourceLoader().loadModule(this.addon, TestModule.class);
+        blockedModule.setTickInterval(10);
+
+        // The parallel mode requires more than one due module
+        TestModule secondModule = (TestModule) this.desktopModules.getSourceLoader().loadModule(this.addon, TestModule.class);
+        secondModule.setTickInterval(10);
+
+        // Block the tick of the module beyond its budget
+        CountDownLatch tickLatch = new CountDownLatch(1);
+        blockedModule.setTickLatch(tickLatch);
+
+        TickScheduler tickScheduler = this.desktopModules.getTickScheduler();
+        tickScheduler.setParallel(true);
+        tickScheduler.start();
+        assertTrue(Tests.await(() -> tickScheduler.isTicking(blockedModule), TIMEOUT));
+
+        AtomicReference<Object> blockedResult = new AtomicReference<>();
+        AtomicReference<Object> addonResult = new AtomicReference<>();
+        this.taskService.submit(this.addon, blockedModule, () -> "Blocked", blockedResult::set);
+        this.taskService.submit(this.addon, null, () -> "Addon", addonResult::set);
+
+        // Only the result that doesn't belong to the ticking module is delivered
+        assertTrue(Tests.await(() -> addonResult.get() != null, TIMEOUT));
+        Thread.sleep(100);
+        assertNull(blockedResult.get());
+
+        // The result is delivered after the tick
+        tickLatch.countDown();
+        assertTrue(Tests.await(() -> blockedResult.get() != null, TIMEOUT));
+    }
+}
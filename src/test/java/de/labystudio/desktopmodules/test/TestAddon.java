@@ -0,0 +1,26 @@
+package de.labystudio.desktopmodules.test;
+
+import de.labystudio.desktopmodules.core.addon.Addon;
+
+/**
+ * Synthetic addon for the tests
+ *
+ * @author LabyStudio
+ */
+public class TestAddon extends Addon {
+
+    @Override
+    public void onInitialize() {
+        // No implementation
+    }
+
+    @Override
+    public void onEnable() {
+        // No implementation
+    }
+
+    @Override
+    public void onDisable() {
+        // No implementation
+    }
+}
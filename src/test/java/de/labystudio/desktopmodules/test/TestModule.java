@@ -0,0 +1,95 @@
+package de.labystudio.desktopmodules.test;
+
+import de.labystudio.desktopmodules.core.loader.TextureLoader;
+import de.labystudio.desktopmodules.core.module.Module;
+import de.labystudio.desktopmodules.core.renderer.IRenderContext;
+
+import java.awt.Color;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Synthetic module for the tests that can fail on purpose
+ *
+ * @author LabyStudio
+ */
+public class TestModule extends Module<TestAddon> {
+
+    private final AtomicInteger ticks = new AtomicInteger();
+    private final AtomicInteger renders = new AtomicInteger();
+
+    private volatile boolean failTick;
+    private volatile boolean failRender;
+
+    /**
+     * Blocks the tick until it is released
+     */
+    private volatile CountDownLatch tickLatch;
+
+    public TestModule() {
+        super(20, 10);
+    }
+
+    @Override
+    public void loadTextures(TextureLoader textureLoader) {
+        // No implementation
+    }
+
+    @Override
+    protected String getIconPath() {
+        return "textures/core/icon.png";
+    }
+
+    @Override
+    public String getDisplayName() {
+        return "Test Module";
+    }
+
+    @Override
+    public void onTick() {
+        this.ticks.incrementAndGet();
+
+        CountDownLatch tickLatch = this.tickLatch;
+        if (tickLatch != null) {
+            try {
+                tickLatch.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        if (this.failTick) {
+            throw new IllegalStateException("Tick failed on purpose");
+        }
+    }
+
+    @Override
+    public void onRender(IRenderContext context, int width, int height, int mouseX, int mouseY) {
+        this.renders.incrementAndGet();
+
+        if (this.failRender) {
+            throw new IllegalStateException("Render failed on purpose");
+        }
+        context.drawRect(0, 0, width, height, Color.RED);
+    }
+
+    public void setFailTick(boolean failTick) {
+        this.failTick = failTick;
+    }
+
+    public void setFailRender(boolean failRender) {
+        this.failRender = failRender;
+    }
+
+    public void setTickLatch(CountDownLatch tickLatch) {
+        this.tickLatch = tickLatch;
+    }
+
+    public int getTicks() {
+        return this.ticks.get();
+    }
+
+    public int getRenders() {
+        return this.renders.get();
+    }
+}
@@ -0,0 +1,90 @@
+package de.labystudio.desktopmodules.test;
+
+import de.labystudio.desktopmodules.core.DesktopModules;
+import de.labystudio.desktopmodules.core.addon.Addon;
+import de.labystudio.desktopmodules.core.loader.SourceClassLoader;
+import de.labystudio.desktopmodules.core.module.Module;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Stream;
+
+/**
+ * Shared setup of the tests
+ *
+ * @author LabyStudio
+ */
+public class Tests {
+
+    /**
+     * Create a headless application instance in a temporary working directory
+     *
+     * @return Headless application instance
+     * @throws Exception exception during initialization of the application
+     */
+    public static DesktopModules createDesktopModules() throws Exception {
+        SourceClassLoader classLoader = new SourceClassLoader(new URL[0], Tests.class.getClassLoader());
+        File workingDirectory = Files.createTempDirectory("desktopmodules-test").toFile();
+        return new DesktopModules(classLoader, true, workingDirectory);
+    }
+
+    /**
+     * Create an addon that is initialized for the given application instance
+     *
+     * @param desktopModules Application instance
+     * @return The initialized addon
+     * @throws Exception exception during initialization of the addon
+     */
+    public static TestAddon createAddon(DesktopModules desktopModules) throws Exception {
+        TestAddon addon = new TestAddon();
+        addon.onPreInitialize(desktopModules);
+        addon.loadConfig();
+        return addon;
+    }
+
+    /**
+     * Stop the schedulers and workers of the given application instance and delete its working directory
+     *
+     * @param desktopModules Application instance
+     * @throws IOException exception during deletion
+     */
+    public static void shutdown(DesktopModules desktopModules) throws IOException {
+        desktopModules.getTickScheduler().stop();
+        desktopModules.getTaskService().shutdown();
+        desktopModules.getTextureLoader().shutdown();
+
+        // Release the MBeans of the modules
+        for (Module<? extends Addon> module : desktopModules.getSourceLoader().getModules()) {
+            desktopModules.getMetricsRegistry().unregister(module);
+        }
+
+        Path directory = desktopModules.getSourceLoader().getAddonsDirectory().getParentFile().toPath();
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    /**
+     * Wait until the given condition is met
+     *
+     * @param condition The condition to wait for
+     * @param timeout   Maximum time to wait in milliseconds
+     * @return The condition was met before the timeout
+     * @throws InterruptedException the waiting thread was interrupted
+     */
+    public static boolean await(BooleanSupplier condition, long timeout) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeout;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                return false;
+            }
+            Thread.sleep(5);
+        }
+        return true;
+    }
+}